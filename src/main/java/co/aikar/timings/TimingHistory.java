@@ -58,6 +58,8 @@ public class TimingHistory {
     public static long entityTicks;
     public static long tileEntityTicks;
     public static long activatedEntityTicks;
+    // Sum over all ticks of the queued chunks left waiting for an unload
+    public static long chunkUnloadBacklog;
     static int worldIdPool = 1;
     static Map<String, Integer> worldMap = LoadingMap.newHashMap((input) -> worldIdPool++);
     final long endTime;
@@ -146,6 +148,7 @@ public static void resetTicks(boolean fullReset) {
         tileEntityTicks = 0;
         entityTicks = 0;
         activatedEntityTicks = 0;
+        chunkUnloadBacklog = 0;
     }
 
     JsonObject export() {
@@ -157,6 +160,8 @@ JsonObject export() {
                 .add("w", this.worlds)
                 .add("h", JSONUtil.mapArray(this.entries, (entry) -> entry.data.count == 0 ? null : entry.export()))
                 .add("mp", JSONUtil.mapArray(this.minuteReports, MinuteReport::export))
+                // Kept out of the positional minute report arrays, which are read by index
+                .add("cub", JSONUtil.mapArray(this.minuteReports, (report) -> report.ticksRecord.chunkUnloadBacklog))
                 .build();
     }
 
@@ -196,6 +201,7 @@ static class TicksRecord {
         final long entity;
         final long tileEntity;
         final long activatedEntity;
+        final long chunkUnloadBacklog;
 
         TicksRecord() {
             this.timed = timedTicks - (TimingsManager.MINUTE_REPORTS.size() * 1200);
@@ -203,6 +209,7 @@ static class TicksRecord {
             this.entity = entityTicks;
             this.tileEntity = tileEntityTicks;
             this.activatedEntity = activatedEntityTicks;
+            this.chunkUnloadBacklog = TimingHistory.chunkUnloadBacklog;
         }
 
     }
@@ -120,6 +120,13 @@ public static boolean isCreatureOfType(Entity entity, EnumCreatureType type) {
         return type.getCreatureClass().isAssignableFrom(entity.getClass());
     }
 
+    public static boolean isCreatureOfType(Entity entity, EnumCreatureType type, boolean forSpawnCount) {
+        if (forSpawnCount && entity instanceof EntityLiving && ((EntityLiving) entity).isNoDespawnRequired()) {
+            return false;
+        }
+        return isCreatureOfType(entity, type);
+    }
+
     public static boolean isFakePlayer(Entity entity) {
         return false;
     }
@@ -96,6 +96,8 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.common.world.light.SpongeLightingScheduler;
+import org.spongepowered.common.world.storage.ChunkSavePipeline;
 
 import java.io.File;
 import java.net.MalformedURLException;
@@ -170,6 +172,7 @@ public static CommandSpec createSpongeCommand() {
         nonFlagChildren.register(createSpongePluginsCommand(), "plugins");
         nonFlagChildren.register(createSpongeTimingsCommand(), "timings");
         nonFlagChildren.register(createSpongeWhichCommand(), "which");
+        nonFlagChildren.register(createSpongeMetricsCommand(), "metrics");
         flagChildren.register(createSpongeChunksCommand(), "chunks");
         flagChildren.register(createSpongeConfigCommand(), "config");
         flagChildren.register(createSpongeReloadCommand(), "reload"); // TODO: Should these two be subcommands of config, and what is now config be set?
@@ -191,6 +194,7 @@ INDENT, title("audit"), LONG_INDENT, "Audit mixin classes for implementation\n",
                         INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins\n",
                         INDENT, title("which"), LONG_INDENT, "List plugins that own a specific command\n",
                         INDENT, title("tps"), LONG_INDENT, "Provides TPS (ticks per second) data for loaded worlds\n",
+                        INDENT, title("metrics"), LONG_INDENT, "Prints statistics of the async lighting and chunk save workers\n",
                         SpongeImplHooks.getAdditionalCommandDescriptions()))
                 .arguments(firstParsing(nonFlagChildren, flags()
                         .flag("-global", "g")
@@ -743,6 +747,34 @@ private static CommandSpec createSpongeTpsCommand() {
                 .build();
     }
 
+    private static CommandSpec createSpongeMetricsCommand() {
+        return CommandSpec.builder()
+                .permission("sponge.command.metrics")
+                .description(Text.of("Prints statistics of the async lighting and chunk save workers."))
+                .executor((src, args) -> {
+                    final SpongeLightingScheduler lighting = SpongeLightingScheduler.getInstanceIfPresent();
+                    if (lighting == null) {
+                        src.sendMessage(Text.of(TextColors.GRAY, "Async lighting is not running"));
+                    } else {
+                        src.sendMessage(Text.of("Lighting queue: ", TextColors.LIGHT_PURPLE, lighting.getQueueDepth(), "/", lighting.getCapacity(),
+                                TextColors.RESET, ", Peak: ", TextColors.LIGHT_PURPLE, lighting.getPeakQueueDepth()));
+                        src.sendMessage(Text.of(INDENT, "Submitted: ", lighting.getSubmittedTasks(), ", Coalesced: ", lighting.getCoalescedTasks(),
+                                ", Dropped: ", lighting.getDroppedTasks(), ", Run by caller: ", lighting.getCallerRunTasks()));
+                    }
+                    final ChunkSavePipeline savePipeline = ChunkSavePipeline.getInstanceIfPresent();
+                    if (savePipeline == null) {
+                        src.sendMessage(Text.of(TextColors.GRAY, "The chunk save pipeline is not running"));
+                    } else {
+                        src.sendMessage(Text.of("Chunks saved: ", TextColors.LIGHT_PURPLE, savePipeline.getSavedChunks(), TextColors.RESET,
+                                ", Mean latency: ", TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(savePipeline.getAverageSaveLatency() * 1.0e-6d),
+                                "ms", TextColors.RESET, ", Max: ", TextColors.RED,
+                                THREE_DECIMAL_DIGITS_FORMATTER.format(savePipeline.getMaxSaveLatency() * 1.0e-6d), "ms"));
+                    }
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
     private static void printWorldTickTime(CommandSource src, World world) {
         final long[] worldTickTimes = ((IMixinMinecraftServer) SpongeImpl.getServer()).
                 getWorldTickTimes(((IMixinWorldServer) world).getDimensionId());
@@ -0,0 +1,70 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigSerializable
+public class AsyncEventListenerCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If enabled, the listeners matching 'listeners' receive events on a pool of threads\n"
+            + "instead of the thread posting the event. Only listeners with Order.POST are affected,\n"
+            + "as those may not modify the event. Events are delivered to each listener in order.\n"
+            + "Warning: Listeners receive the live event, while the server keeps running. They must not modify the event,\n"
+            + "read or change the world, entities or other game state, or use the CauseStackManager, which throws when\n"
+            + "used off the main thread. Events still queued when a listener is unregistered are dropped.")
+    private boolean enabled = false;
+
+    @Setting(value = "threads", comment = "The amount of threads used to dispatch events to async listeners. (Default: 2)")
+    private int threads = 2;
+
+    @Setting(value = "max-queued-events", comment = "The maximum amount of events waiting for a single listener. When reached,\n"
+            + "further events are dropped for that listener, with a warning, until it catches up. (Default: 1000)")
+    private int maxQueuedEvents = 1000;
+
+    @Setting(value = "listeners", comment = "The listeners to dispatch asynchronously. Each entry is either a plugin id, matching all\n"
+            + "listeners of that plugin, or a plugin id and listener class name, e.g. 'myplugin:com.example.JoinLogger'.")
+    private List<String> listeners = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getThreads() {
+        return this.threads;
+    }
+
+    public int getMaxQueuedEvents() {
+        return this.maxQueuedEvents;
+    }
+
+    public List<String> getListeners() {
+        return this.listeners;
+    }
+}
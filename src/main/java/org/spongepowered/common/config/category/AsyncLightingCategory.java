@@ -36,6 +36,14 @@ public class AsyncLightingCategory extends ConfigCategory {
     @Setting(value = "num-threads", comment = "The amount of threads to dedicate for async lighting updates. (Default: 2)")
     private int numAsyncThreads = 2;
 
+    @Setting(value = "max-queue-size", comment = "The maximum amount of lighting updates queued across all worlds. Once reached, the thread\n"
+            + "requesting an update performs it itself until the queue drains. (Default: 20000)")
+    private int maxQueueSize = 20000;
+
+    @Setting(value = "batch-updates", comment = "If enabled, all pending lighting updates of a chunk are processed together in one task\n"
+            + "instead of queuing a task per updated block. Reduces overhead after large edits.")
+    private boolean batchUpdates = false;
+
     public boolean isEnabled() {
         return this.enabled;
     }
@@ -43,4 +51,12 @@ public boolean isEnabled() {
     public int getNumThreads() {
         return this.numAsyncThreads;
     }
+
+    public int getMaxQueueSize() {
+        return this.maxQueueSize;
+    }
+
+    public boolean useBatchUpdates() {
+        return this.batchUpdates;
+    }
 }
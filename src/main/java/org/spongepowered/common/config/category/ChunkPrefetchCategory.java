@@ -0,0 +1,68 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class ChunkPrefetchCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If enabled, chunks ahead of moving players are loaded from disk asynchronously before\n"
+            + "the player reaches them. Chunks that have not been generated yet are not prefetched.")
+    private boolean enabled = false;
+
+    @Setting(value = "io-threads", comment = "The amount of threads used to read chunks from disk. (Default: 2)")
+    private int ioThreads = 2;
+
+    @Setting(value = "lookahead-ticks", comment = "How many ticks ahead of a player's movement chunks are requested. (Default: 40)")
+    private int lookaheadTicks = 40;
+
+    @Setting(value = "max-requests-per-tick", comment = "The maximum amount of chunks requested per world each tick. (Default: 16)")
+    private int maxRequestsPerTick = 16;
+
+    @Setting(value = "min-speed", comment = "The minimum speed, in blocks per tick, a player must move at before chunks are prefetched. (Default: 0.5)")
+    private double minSpeed = 0.5;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getIoThreads() {
+        return this.ioThreads;
+    }
+
+    public int getLookaheadTicks() {
+        return this.lookaheadTicks;
+    }
+
+    public int getMaxRequestsPerTick() {
+        return this.maxRequestsPerTick;
+    }
+
+    public double getMinSpeed() {
+        return this.minSpeed;
+    }
+}
@@ -39,6 +39,15 @@ public class EntityActivationRangeCategory extends ConfigCategory {
     private Map<String, Integer> defaultRanges = new HashMap<>();
     @Setting(value = "mods", comment = "Per-mod overrides. Refer to the minecraft default mod for example.")
     private Map<String, EntityActivationModCategory> modList = new HashMap<>();
+    @Setting(value = "spatial-index", comment = "If enabled, activation is computed once per tick from an index of the chunks near players\n"
+            + "instead of sweeping every chunk around each player. Recommended for worlds where many players are grouped together.")
+    private boolean spatialIndex = false;
+    @Setting(value = "parallel", comment = "If enabled, activation of entities near players is evaluated on worker threads before entities are ticked.\n"
+            + "Implies 'spatial-index'. Only worthwhile on servers with many players and spare cores.")
+    private boolean parallel = false;
+    @Setting(value = "parallel-threads", comment = "The amount of threads used for parallel activation. If 0, the common fork-join pool is used. (Default: 0)\n"
+            + "This is only read from the global config.")
+    private int parallelThreads = 0;
 
     public EntityActivationRangeCategory() {
         this.defaultRanges.put("ambient", 32);
@@ -59,4 +68,16 @@ public Map<String, Integer> getDefaultRanges() {
     public Map<String, EntityActivationModCategory> getModList() {
         return this.modList;
     }
+
+    public boolean useSpatialIndex() {
+        return this.spatialIndex;
+    }
+
+    public boolean useParallelActivation() {
+        return this.parallel;
+    }
+
+    public int getParallelThreads() {
+        return this.parallelThreads;
+    }
 }
\ No newline at end of file
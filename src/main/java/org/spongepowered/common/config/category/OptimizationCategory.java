@@ -56,11 +56,33 @@ public class OptimizationCategory extends ConfigCategory {
     @Setting(value = "async-lighting", comment = "Runs lighting updates async.")
     private AsyncLightingCategory asyncLightingCategory = new AsyncLightingCategory();
 
+    @Setting(value = "chunk-save-pipeline", comment = "Saves chunks through a multi-threaded compression and write pipeline.")
+    private ChunkSaveCategory chunkSaveCategory = new ChunkSaveCategory();
+
+    @Setting(value = "chunk-prefetch", comment = "Loads chunks ahead of moving players asynchronously.")
+    private ChunkPrefetchCategory chunkPrefetchCategory = new ChunkPrefetchCategory();
+
+    @Setting(value = "async-event-listeners", comment = "Dispatches events to selected observing plugin listeners asynchronously.")
+    private AsyncEventListenerCategory asyncEventListenerCategory = new AsyncEventListenerCategory();
+
     @Setting(value = "panda-redstone", comment = "If enabled, uses Panda4494's Redstone implementation which improves performance.\n"
             + "See https://bugs.mojang.com/browse/MC-11193 for more information.\n"
             + "Note: This optimization has a few issues which is explained in the bug report. We are not responsible for any issues this may cause.")
     private boolean pandaRedstone = false;
 
+    @Setting(value = "optimized-explosions", comment = "If enabled, explosions cache block resistance and entity exposure for the rest of the tick\n"
+            + "and skip recasting rays for explosions sharing an origin with an earlier one that affected no blocks.\n"
+            + "Note: Cached exposure ignores blocks destroyed by other explosions in the same tick.")
+    private boolean optimizedExplosions = false;
+
+    @Setting(value = "entity-spatial-grid", comment = "If enabled, entities in crowded chunk sections are indexed in a grid of 4x4x4 block cells\n"
+            + "so that bounding box queries, such as entity collisions, only check nearby entities.\n"
+            + "Note: Queries may return entities in a different order than vanilla.")
+    private boolean entitySpatialGrid = false;
+
+    @Setting(value = "hopper-sleeping", comment = "Lets idle hoppers sleep until their inventories change.")
+    private HopperSleepCategory hopperSleepCategory = new HopperSleepCategory();
+
     public OptimizationCategory() {  
         try {  
             // Enabled by default on SpongeVanilla, disabled by default on SpongeForge.  
@@ -96,7 +118,39 @@ public boolean useAsyncLighting() {
         return this.asyncLightingCategory.isEnabled();
     }
 
+    public ChunkSaveCategory getChunkSaveCategory() {
+        return this.chunkSaveCategory;
+    }
+
+    public boolean useChunkSavePipeline() {
+        return this.chunkSaveCategory.isEnabled();
+    }
+
+    public ChunkPrefetchCategory getChunkPrefetchCategory() {
+        return this.chunkPrefetchCategory;
+    }
+
+    public AsyncEventListenerCategory getAsyncEventListenerCategory() {
+        return this.asyncEventListenerCategory;
+    }
+
     public boolean usePandaRedstone() {
         return this.pandaRedstone;
     }
+
+    public boolean useOptimizedExplosions() {
+        return this.optimizedExplosions;
+    }
+
+    public boolean useEntitySpatialGrid() {
+        return this.entitySpatialGrid;
+    }
+
+    public HopperSleepCategory getHopperSleepCategory() {
+        return this.hopperSleepCategory;
+    }
+
+    public boolean useHopperSleeping() {
+        return this.hopperSleepCategory.isEnabled();
+    }
 }
@@ -41,6 +41,10 @@ public class TileEntityActivationCategory extends ConfigCategory {
     private int defaultTickRate = 1;
     @Setting(value = "mods", comment = "Per-mod overrides. Refer to the minecraft default mod for example.")
     private Map<String, TileEntityActivationModCategory> modList = new HashMap<>();
+    @Setting(value = "chunk-map", comment = "If enabled, tileentities are activated using a map of the chunks near players which is only\n"
+            + "updated when players move between chunks, instead of checking every tileentity near players each tick.\n"
+            + "Activation is then decided per chunk rather than per block.")
+    private boolean chunkMap = false;
 
     public TileEntityActivationCategory() {
     }
@@ -60,4 +64,8 @@ public int getDefaultTickRate() {
     public Map<String, TileEntityActivationModCategory> getModList() {
         return this.modList;
     }
+
+    public boolean useChunkMap() {
+        return this.chunkMap;
+    }
 }
\ No newline at end of file
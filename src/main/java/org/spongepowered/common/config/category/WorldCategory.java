@@ -80,6 +80,12 @@ public class WorldCategory extends ConfigCategory {
                                                              + "\nloaded on the world and increases the chance for a drop in tps. (Default: 100)")
     private int maxChunkUnloads = 100;
 
+    @Setting(value = "chunk-unload-time-budget", comment = "The number of milliseconds per tick that may be spent unloading and saving "
+                                                          + "\nqueued chunks. Chunks furthest from any player are unloaded first, the rest"
+                                                          + "\nwait for the next tick. 'max-chunk-unloads-per-tick' still applies."
+                                                          + "\nSet to 0 to only limit unloads by count. (Default: 0)")
+    private double chunkUnloadTimeBudget = 0;
+
     @Setting(value = "chunk-gc-load-threshold", comment = "The number of newly loaded chunks before triggering a forced cleanup. "
                                                           + "\nNote: When triggered, the loaded chunk threshold will reset and start incrementing. "
                                                           + "\nDisabled by default.")
@@ -214,6 +220,10 @@ public int getMaxChunkUnloads() {
         return this.maxChunkUnloads;
     }
 
+    public double getChunkUnloadTimeBudget() {
+        return this.chunkUnloadTimeBudget;
+    }
+
     public double getItemMergeRadius() {
         return this.itemMergeRadius;
     }
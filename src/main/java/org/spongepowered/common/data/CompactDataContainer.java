@@ -0,0 +1,73 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataView;
+
+import java.util.Map;
+
+/**
+ * A {@link DataContainer} with a compact memory layout, intended for the
+ * high volume of short lived containers created while serializing. It and
+ * all of its nested views store their data in array backed maps with
+ * interned keys rather than in linked hash maps.
+ *
+ * <p>It is otherwise interchangeable with a {@link MemoryDataContainer},
+ * and is equal to one holding the same data.</p>
+ */
+public class CompactDataContainer extends MemoryDataContainer {
+
+    /**
+     * Creates a new {@link CompactDataContainer} with a default
+     * {@link org.spongepowered.api.data.DataView.SafetyMode} of
+     * {@link org.spongepowered.api.data.DataView.SafetyMode#ALL_DATA_CLONED}.
+     */
+    public CompactDataContainer() {
+        super();
+    }
+
+    /**
+     * Creates a new {@link CompactDataContainer} with the provided
+     * {@link org.spongepowered.api.data.DataView.SafetyMode}.
+     *
+     * @param safety The safety mode to use
+     * @see org.spongepowered.api.data.DataView.SafetyMode
+     */
+    public CompactDataContainer(DataView.SafetyMode safety) {
+        super(safety);
+    }
+
+    @Override
+    protected Map<String, Object> createMap() {
+        return new CompactDataMap();
+    }
+
+    @Override
+    protected DataContainer createContainer(DataView.SafetyMode safety) {
+        return new CompactDataContainer(safety);
+    }
+
+}
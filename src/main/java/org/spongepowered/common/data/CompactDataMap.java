@@ -0,0 +1,283 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * An insertion ordered map storing its keys and values in parallel arrays.
+ * Keys are interned, so the many views sharing the same keys don't hold
+ * their own copies. Lookups scan the keys linearly, which is faster than
+ * hashing for the small maps most views consist of; larger maps build a
+ * hash index.
+ */
+final class CompactDataMap extends AbstractMap<String, Object> {
+
+    private static final Interner<String> KEY_INTERNER = Interners.newWeakInterner();
+    private static final int DEFAULT_CAPACITY = 4;
+    private static final int INDEX_THRESHOLD = 16;
+
+    private String[] keys = new String[DEFAULT_CAPACITY];
+    private Object[] values = new Object[DEFAULT_CAPACITY];
+    private int size;
+    private int modCount;
+    @Nullable private Object2IntOpenHashMap<String> index;
+    @Nullable private Set<Entry<String, Object>> entrySet;
+
+    private int indexOf(@Nullable Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+        if (this.index != null) {
+            return this.index.getInt(key);
+        }
+        final String[] keys = this.keys;
+        for (int i = 0; i < this.size; i++) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        for (int i = 0; i < this.size; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+        return indexOf(key) != -1;
+    }
+
+    @Override
+    public Object get(@Nullable Object key) {
+        final int i = indexOf(key);
+        return i == -1 ? null : this.values[i];
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        final int i = indexOf(key);
+        if (i != -1) {
+            final Object old = this.values[i];
+            this.values[i] = value;
+            return old;
+        }
+        if (this.size == this.keys.length) {
+            final int capacity = this.size + (this.size >> 1) + 1;
+            this.keys = Arrays.copyOf(this.keys, capacity);
+            this.values = Arrays.copyOf(this.values, capacity);
+        }
+        final String interned = KEY_INTERNER.intern(key);
+        this.keys[this.size] = interned;
+        this.values[this.size] = value;
+        if (this.index != null) {
+            this.index.put(interned, this.size);
+        }
+        this.size++;
+        this.modCount++;
+        if (this.index == null && this.size > INDEX_THRESHOLD) {
+            rebuildIndex();
+        }
+        return null;
+    }
+
+    @Override
+    public Object remove(@Nullable Object key) {
+        final int i = indexOf(key);
+        if (i == -1) {
+            return null;
+        }
+        final Object old = this.values[i];
+        removeAt(i);
+        return old;
+    }
+
+    private void removeAt(int i) {
+        final int moved = this.size - i - 1;
+        if (moved > 0) {
+            System.arraycopy(this.keys, i + 1, this.keys, i, moved);
+            System.arraycopy(this.values, i + 1, this.values, i, moved);
+        }
+        this.size--;
+        this.keys[this.size] = null;
+        this.values[this.size] = null;
+        this.modCount++;
+        if (this.index != null) {
+            if (this.size > INDEX_THRESHOLD) {
+                rebuildIndex();
+            } else {
+                this.index = null;
+            }
+        }
+    }
+
+    private void rebuildIndex() {
+        final Object2IntOpenHashMap<String> index = new Object2IntOpenHashMap<>(this.size);
+        index.defaultReturnValue(-1);
+        for (int i = 0; i < this.size; i++) {
+            index.put(this.keys[i], i);
+        }
+        this.index = index;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.keys, 0, this.size, null);
+        Arrays.fill(this.values, 0, this.size, null);
+        this.size = 0;
+        this.index = null;
+        this.modCount++;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (this.entrySet == null) {
+            this.entrySet = new EntrySet();
+        }
+        return this.entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return CompactDataMap.this.size;
+        }
+
+        @Override
+        public void clear() {
+            CompactDataMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private int next;
+        private int last = -1;
+        private int expectedModCount = CompactDataMap.this.modCount;
+
+        @Override
+        public boolean hasNext() {
+            return this.next < CompactDataMap.this.size;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (CompactDataMap.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (this.next >= CompactDataMap.this.size) {
+                throw new NoSuchElementException();
+            }
+            this.last = this.next++;
+            return new ArrayEntry(this.last);
+        }
+
+        @Override
+        public void remove() {
+            if (this.last == -1) {
+                throw new IllegalStateException();
+            }
+            if (CompactDataMap.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(this.last);
+            this.next = this.last;
+            this.last = -1;
+            this.expectedModCount = CompactDataMap.this.modCount;
+        }
+    }
+
+    private final class ArrayEntry implements Map.Entry<String, Object> {
+
+        private final int i;
+
+        ArrayEntry(int i) {
+            this.i = i;
+        }
+
+        @Override
+        public String getKey() {
+            return CompactDataMap.this.keys[this.i];
+        }
+
+        @Override
+        public Object getValue() {
+            return CompactDataMap.this.values[this.i];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            final Object old = CompactDataMap.this.values[this.i];
+            CompactDataMap.this.values[this.i] = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+            return getKey().equals(other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -57,6 +57,17 @@
 
     boolean supports(EntityType entityType);
 
+    /**
+     * Gets the class of {@link DataHolder}s this processor supports, if the
+     * support is decided by the class of the holder alone. Processors that
+     * additionally check the state of a holder return {@link Optional#empty()}.
+     *
+     * @return The supported holder class, if static
+     */
+    default Optional<Class<?>> getSupportedHolderClass() {
+        return Optional.empty();
+    }
+
     /**
      * Attempts to get the given {@link DataManipulator} of type {@code T} if
      * and only if the manipulator's required data exists from the
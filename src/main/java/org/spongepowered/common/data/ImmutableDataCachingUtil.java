@@ -28,6 +28,9 @@
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableMap;
 import org.spongepowered.api.CatalogType;
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
@@ -36,9 +39,18 @@
 import org.spongepowered.common.SpongeImpl;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
 
 public final class ImmutableDataCachingUtil {
 
@@ -48,16 +60,24 @@ private ImmutableDataCachingUtil() {}
     public static final int MANIPULATOR_CACHE_LIMIT = 100000;
     public static final int VALUE_CACHE_LIMIT = 100000;
 
-    private static final Cache<String, ImmutableDataManipulator<?, ?>> manipulatorCache = CacheBuilder.newBuilder()
+    private static final Cache<CacheKey, ImmutableDataManipulator<?, ?>> manipulatorCache = CacheBuilder.newBuilder()
         .maximumSize(MANIPULATOR_CACHE_LIMIT)
         .concurrencyLevel(4)
+        .recordStats()
         .build();
 
-    private static final Cache<String, ImmutableValue<?>> valueCache = CacheBuilder.newBuilder()
+    private static final Cache<CacheKey, ImmutableValue<?>> valueCache = CacheBuilder.newBuilder()
         .concurrencyLevel(4)
         .maximumSize(VALUE_CACHE_LIMIT)
+        .recordStats()
         .build();
 
+    // Values of small, closed domains (booleans, small integers, enums and catalog
+    // types) are interned forever instead of competing for space in the value cache.
+    private static final Map<CacheKey, ImmutableValue<?>> internedValues = new ConcurrentHashMap<>();
+    private static final LongAdder internedHits = new LongAdder();
+    private static final LongAdder internedMisses = new LongAdder();
+
     /**
      * Retrieves a basic manipulator from {@link Cache}. If the {@link Cache}
      * does not have the desired {@link ImmutableDataManipulator} with relative
@@ -75,7 +95,7 @@ private ImmutableDataCachingUtil() {}
      */
     @SuppressWarnings("unchecked")
     public static <T extends ImmutableDataManipulator<?, ?>> T getManipulator(final Class<T> immutableClass, final Object... args) {
-        final String key = getKey(immutableClass, args);
+        final CacheKey key = new CacheKey(immutableClass, args);
         // We can't really use the generic typing here because it's complicated...
         try {
             // Let's get the key
@@ -97,33 +117,134 @@ private ImmutableDataCachingUtil() {}
     @SuppressWarnings("unchecked")
     public static <E, V extends ImmutableValue<?>, T extends ImmutableValue<E>> T getValue(final Class<V> valueClass,
             final Key<? extends BaseValue<E>> usedKey, final E defaultArg, final E arg, final Object... extraArgs) {
-        final String key = getKey(valueClass, usedKey.getQuery().asString('.'), arg.getClass(), arg);
+        final CacheKey key = new CacheKey(valueClass, usedKey, arg.getClass(), arg);
+        if (isInternable(arg)) {
+            ImmutableValue<?> value = ImmutableDataCachingUtil.internedValues.get(key);
+            if (value != null) {
+                ImmutableDataCachingUtil.internedHits.increment();
+                return (T) value;
+            }
+            ImmutableDataCachingUtil.internedMisses.increment();
+            value = createValue(valueClass, usedKey, defaultArg, arg, extraArgs);
+            final ImmutableValue<?> previous = ImmutableDataCachingUtil.internedValues.putIfAbsent(key, value);
+            return (T) (previous == null ? value : previous);
+        }
         try {
-            return (T) ImmutableDataCachingUtil.valueCache.get(key, (Callable<ImmutableValue<?>>) () -> {
-                    try {
-                        if (extraArgs == null || extraArgs.length == 0) {
-                            return createUnsafeInstance(valueClass, usedKey, defaultArg, arg);
-                        }
-                        return createUnsafeInstance(valueClass, usedKey, defaultArg, arg, extraArgs);
-                    } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                        SpongeImpl.getLogger().error("Could not construct an ImmutableValue: " + valueClass.getCanonicalName(), e);
-                    }
-                    throw new UnsupportedOperationException("Could not construct the ImmutableValue: " + valueClass.getName());
-            });
+            return (T) ImmutableDataCachingUtil.valueCache.get(key, (Callable<ImmutableValue<?>>) () ->
+                    createValue(valueClass, usedKey, defaultArg, arg, extraArgs));
         } catch (ExecutionException e) {
             throw new UnsupportedOperationException("Could not construct the ImmutableValue: " + valueClass.getName(), e);
         }
     }
 
-    private static String getKey(final Class<?> immutableClass, final Object... args) {
-        final StringBuilder builder = new StringBuilder(immutableClass.getCanonicalName() + ":");
-        for (Object object : args) {
-            if (object instanceof CatalogType) {
-                builder.append("{").append(((CatalogType) object).getId()).append("}");
-            } else {
-                builder.append("{").append(object.toString()).append("}");
+    private static <E> ImmutableValue<?> createValue(final Class<? extends ImmutableValue<?>> valueClass,
+            final Key<? extends BaseValue<E>> usedKey, final E defaultArg, final E arg, final Object... extraArgs) {
+        try {
+            if (extraArgs == null || extraArgs.length == 0) {
+                return createUnsafeInstance(valueClass, usedKey, defaultArg, arg);
+            }
+            return createUnsafeInstance(valueClass, usedKey, defaultArg, arg, extraArgs);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            SpongeImpl.getLogger().error("Could not construct an ImmutableValue: " + valueClass.getCanonicalName(), e);
+        }
+        throw new UnsupportedOperationException("Could not construct the ImmutableValue: " + valueClass.getName());
+    }
+
+    private static boolean isInternable(final Object arg) {
+        if (arg instanceof Boolean || arg instanceof Enum || arg instanceof CatalogType) {
+            return true;
+        }
+        if (arg instanceof Byte || arg instanceof Short || arg instanceof Integer) {
+            final int value = ((Number) arg).intValue();
+            return value >= -128 && value <= 127;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the statistics of the immutable manipulator cache.
+     *
+     * @return The manipulator cache statistics
+     */
+    public static CacheStats getManipulatorCacheStats() {
+        return ImmutableDataCachingUtil.manipulatorCache.stats();
+    }
+
+    /**
+     * Gets the statistics of the immutable value cache, including the
+     * lookups of interned values.
+     *
+     * @return The value cache statistics
+     */
+    public static CacheStats getValueCacheStats() {
+        final long internedHits = ImmutableDataCachingUtil.internedHits.sum();
+        final long internedMisses = ImmutableDataCachingUtil.internedMisses.sum();
+        return ImmutableDataCachingUtil.valueCache.stats().plus(new CacheStats(internedHits, internedMisses, internedMisses, 0, 0, 0));
+    }
+
+    /**
+     * Gets the amount of interned immutable values.
+     *
+     * @return The interned value count
+     */
+    public static int getInternedValueCount() {
+        return ImmutableDataCachingUtil.internedValues.size();
+    }
+
+    /**
+     * A structural cache key, comparing arguments by equality rather than by
+     * their string representation. Mutable collections are copied so later
+     * changes by the caller can't corrupt the key, any other argument that
+     * isn't known to be immutable is keyed by its string representation.
+     */
+    static final class CacheKey {
+
+        private final Class<?> type;
+        private final Object[] args;
+        private final int hash;
+
+        CacheKey(Class<?> type, Object... args) {
+            this.type = type;
+            this.args = new Object[args.length];
+            for (int i = 0; i < args.length; i++) {
+                this.args[i] = normalize(args[i]);
             }
+            this.hash = 31 * type.hashCode() + Arrays.hashCode(this.args);
+        }
+
+        private static Object normalize(Object arg) {
+            if (arg == null || arg instanceof Number || arg instanceof Boolean || arg instanceof Character || arg instanceof String
+                    || arg instanceof Enum || arg instanceof CatalogType || arg instanceof Class || arg instanceof Key
+                    || arg instanceof ImmutableCollection || arg instanceof ImmutableMap) {
+                return arg;
+            }
+            if (arg instanceof List) {
+                return Collections.unmodifiableList(new ArrayList<>((List<?>) arg));
+            }
+            if (arg instanceof Set) {
+                return Collections.unmodifiableSet(new HashSet<>((Set<?>) arg));
+            }
+            if (arg instanceof Map) {
+                return Collections.unmodifiableMap(new HashMap<>((Map<?, ?>) arg));
+            }
+            return arg.toString();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            final CacheKey other = (CacheKey) o;
+            return this.hash == other.hash && this.type == other.type && Arrays.equals(this.args, other.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
         }
-        return builder.toString();
     }
 }
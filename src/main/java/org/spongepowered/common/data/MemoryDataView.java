@@ -67,7 +67,7 @@
  */
 public class MemoryDataView implements DataView {
 
-    protected final Map<String, Object> map = Maps.newLinkedHashMap();
+    protected final Map<String, Object> map;
     private final DataContainer container;
     private final DataView parent;
     private final DataQuery path;
@@ -79,6 +79,7 @@ public class MemoryDataView implements DataView {
         this.parent = this;
         this.container = (DataContainer) this;
         this.safety = checkNotNull(safety, "Safety mode");
+        this.map = createMap();
     }
 
     private MemoryDataView(DataView parent, DataQuery path, DataView.SafetyMode safety) {
@@ -87,6 +88,34 @@ private MemoryDataView(DataView parent, DataQuery path, DataView.SafetyMode safe
         this.container = parent.getContainer();
         this.path = parent.getCurrentPath().then(path);
         this.safety = checkNotNull(safety, "Safety mode");
+        this.map = createMap();
+    }
+
+    /**
+     * Creates the map backing this view. Nested views use the same kind of
+     * map as their container.
+     *
+     * @return The new backing map
+     */
+    protected Map<String, Object> createMap() {
+        if (this.container != this && this.container instanceof MemoryDataView) {
+            return ((MemoryDataView) this.container).createMap();
+        }
+        return Maps.newLinkedHashMap();
+    }
+
+    /**
+     * Creates a new, empty container of the same kind as the container of
+     * this view, used for copies.
+     *
+     * @param safety The safety mode of the new container
+     * @return The new container
+     */
+    protected DataContainer createContainer(SafetyMode safety) {
+        if (this.container != this && this.container instanceof MemoryDataView) {
+            return ((MemoryDataView) this.container).createContainer(safety);
+        }
+        return new MemoryDataContainer(safety);
     }
 
     @Override
@@ -327,7 +356,7 @@ private void setCollection(String key, Collection<?> value) {
                 builder.add(((DataSerializable) object).toContainer());
             } else if (object instanceof DataView) {
                 if (this.safety == SafetyMode.ALL_DATA_CLONED || this.safety == SafetyMode.CLONED_ON_SET) {
-                    MemoryDataView view = new MemoryDataContainer(this.safety);
+                    DataView view = createContainer(this.safety);
                     DataView internalView = (DataView) object;
                     for (Map.Entry<DataQuery, Object> entry : internalView.getValues(false).entrySet()) {
                         view.set(entry.getKey(), entry.getValue());
@@ -403,7 +432,9 @@ private void setMap(String key, Map<?, ?> value) {
     }
 
     private void copyDataView(DataQuery path, DataView value) {
-        Collection<DataQuery> valueKeys = value.getKeys(true);
+        // Nested views are copied by the recursive set, so only
+        // the direct keys are needed here
+        Collection<DataQuery> valueKeys = value.getKeys(false);
         for (DataQuery oldKey : valueKeys) {
             set(path.then(oldKey), value.get(oldKey).get());
         }
@@ -800,7 +831,7 @@ public <T> Optional<List<T>> getObjectList(DataQuery path, Class<T> objectClass)
 
     @Override
     public DataContainer copy() {
-        final DataContainer container = new MemoryDataContainer(this.safety);
+        final DataContainer container = createContainer(this.safety);
         getKeys(false)
             .forEach(query ->
                 get(query).ifPresent(obj ->
@@ -812,7 +843,7 @@ public DataContainer copy() {
 
     @Override
     public DataContainer copy(SafetyMode safety) {
-        final DataContainer container = new MemoryDataContainer(safety);
+        final DataContainer container = createContainer(safety);
         getKeys(false)
             .forEach(query ->
                 get(query).ifPresent(obj ->
@@ -842,7 +873,8 @@ public boolean equals(@Nullable Object obj) {
         if (this == obj) {
             return true;
         }
-        if (obj == null || getClass() != obj.getClass()) {
+        // Compact containers are equal to memory containers with the same data
+        if (!(obj instanceof MemoryDataView) || (this instanceof DataContainer) != (obj instanceof DataContainer)) {
             return false;
         }
         final MemoryDataView other = (MemoryDataView) obj;
@@ -48,6 +48,7 @@
 import org.spongepowered.api.data.Queries;
 import org.spongepowered.api.data.persistence.DataTranslator;
 import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.common.data.CompactDataContainer;
 import org.spongepowered.common.data.util.DataQueries;
 
 import java.time.Instant;
@@ -107,7 +108,7 @@ public UUID translate(DataView view) throws InvalidDataException {
 
             @Override
             public DataContainer translate(UUID obj) throws InvalidDataException {
-                return DataContainer.createNew()
+                return new CompactDataContainer()
                         .set(Queries.UUID_MOST, obj.getMostSignificantBits())
                         .set(Queries.UUID_LEAST, obj.getLeastSignificantBits());
             }
@@ -147,7 +148,7 @@ public Vector2d translate(DataView view) throws InvalidDataException {
 
             @Override
             public DataContainer translate(Vector2d obj) throws InvalidDataException {
-                return DataContainer.createNew()
+                return new CompactDataContainer()
                         .set(DataQueries.X_POS, obj.getX())
                         .set(DataQueries.Y_POS, obj.getY());
             }
@@ -186,7 +187,7 @@ public Vector2f translate(DataView view) throws InvalidDataException {
 
             @Override
             public DataContainer translate(Vector2f obj) throws InvalidDataException {
-                return DataContainer.createNew()
+                return new CompactDataContainer()
                         .set(DataQueries.X_POS, obj.getX())
                         .set(DataQueries.Y_POS, obj.getY());
             }
@@ -225,7 +226,7 @@ public Vector2i translate(DataView view) throws InvalidDataException {
 
             @Override
             public DataContainer translate(Vector2i obj) throws InvalidDataException {
-                return DataContainer.createNew()
+                return new CompactDataContainer()
                         .set(DataQueries.X_POS, obj.getX())
                         .set(DataQueries.Y_POS, obj.getY());
             }
@@ -265,7 +266,7 @@ public Vector2l translate(DataView view) throws InvalidDataException {
 
             @Override
             public DataContainer translate(Vector2l obj) throws InvalidDataException {
-                return DataContainer.createNew()
+                return new CompactDataContainer()
                         .set(DataQueries.X_POS, obj.getX())
                         .set(DataQueries.Y_POS, obj.getY());
             }
@@ -305,7 +306,7 @@ public Vector3d translate(DataView view) throws InvalidDataException {
 
             @Override
             public DataContainer translate(Vector3d obj) throws InvalidDataException {
-                return DataContainer.createNew()
+                return new CompactDataContainer()
                         .set(DataQueries.X_POS, obj.getX())
                         .set(DataQueries.Y_POS, obj.getY())
                         .set(DataQueries.Z_POS, obj.getZ());
@@ -348,7 +349,7 @@ public Vector3f translate(DataView view) throws InvalidDataException {
 
             @Override
             public DataContainer translate(Vector3f obj) throws InvalidDataException {
-                return DataContainer.createNew()
+                return new CompactDataContainer()
                         .set(DataQueries.X_POS, obj.getX())
                         .set(DataQueries.Y_POS, obj.getY())
                         .set(DataQueries.Z_POS, obj.getZ());
@@ -391,7 +392,7 @@ public Vector3i translate(DataView view) throws InvalidDataException {
 
             @Override
             public DataContainer translate(Vector3i obj) throws InvalidDataException {
-                return DataContainer.createNew()
+                return new CompactDataContainer()
                         .set(DataQueries.X_POS, obj.getX())
                         .set(DataQueries.Y_POS, obj.getY())
                         .set(DataQueries.Z_POS, obj.getZ());
@@ -434,7 +435,7 @@ public Vector3l translate(DataView view) throws InvalidDataException {
 
             @Override
             public DataContainer translate(Vector3l obj) throws InvalidDataException {
-                return DataContainer.createNew()
+                return new CompactDataContainer()
                         .set(DataQueries.X_POS, obj.getX())
                         .set(DataQueries.Y_POS, obj.getY())
                         .set(DataQueries.Z_POS, obj.getZ());
@@ -478,7 +479,7 @@ public Vector4f translate(DataView view) throws InvalidDataException {
 
             @Override
             public DataContainer translate(Vector4f obj) throws InvalidDataException {
-                return DataContainer.createNew()
+                return new CompactDataContainer()
                         .set(DataQueries.X_POS, obj.getX())
                         .set(DataQueries.Y_POS, obj.getY())
                         .set(DataQueries.Z_POS, obj.getZ())
@@ -524,7 +525,7 @@ public Vector4i translate(DataView view) throws InvalidDataException {
 
             @Override
             public DataContainer translate(Vector4i obj) throws InvalidDataException {
-                return DataContainer.createNew()
+                return new CompactDataContainer()
                         .set(DataQueries.X_POS, obj.getX())
                         .set(DataQueries.Y_POS, obj.getY())
                         .set(DataQueries.Z_POS, obj.getZ())
@@ -570,7 +571,7 @@ public Vector4l translate(DataView view) throws InvalidDataException {
 
             @Override
             public DataContainer translate(Vector4l obj) throws InvalidDataException {
-                return DataContainer.createNew()
+                return new CompactDataContainer()
                         .set(DataQueries.X_POS, obj.getX())
                         .set(DataQueries.Y_POS, obj.getY())
                         .set(DataQueries.Z_POS, obj.getZ())
@@ -616,7 +617,7 @@ public Vector4d translate(DataView view) throws InvalidDataException {
 
             @Override
             public DataContainer translate(Vector4d obj) throws InvalidDataException {
-                return DataContainer.createNew()
+                return new CompactDataContainer()
                         .set(DataQueries.X_POS, obj.getX())
                         .set(DataQueries.Y_POS, obj.getY())
                         .set(DataQueries.Z_POS, obj.getZ())
@@ -660,7 +661,7 @@ public Complexd translate(DataView view) throws InvalidDataException {
 
             @Override
             public DataContainer translate(Complexd obj) throws InvalidDataException {
-                return DataContainer.createNew()
+                return new CompactDataContainer()
                         .set(DataQueries.X_POS, obj.getX())
                         .set(DataQueries.Y_POS, obj.getY());
             }
@@ -700,7 +701,7 @@ public Complexf translate(DataView view) throws InvalidDataException {
 
             @Override
             public DataContainer translate(Complexf obj) throws InvalidDataException {
-                return DataContainer.createNew()
+                return new CompactDataContainer()
                         .set(DataQueries.X_POS, obj.getX())
                         .set(DataQueries.Y_POS, obj.getY());
             }
@@ -741,7 +742,7 @@ public Quaterniond translate(DataView view) throws InvalidDataException {
 
             @Override
             public DataContainer translate(Quaterniond obj) throws InvalidDataException {
-                return DataContainer.createNew()
+                return new CompactDataContainer()
                         .set(DataQueries.X_POS, obj.getX())
                         .set(DataQueries.Y_POS, obj.getY())
                         .set(DataQueries.Z_POS, obj.getZ())
@@ -786,7 +787,7 @@ public Quaternionf translate(DataView view) throws InvalidDataException {
 
             @Override
             public DataContainer translate(Quaternionf obj) throws InvalidDataException {
-                return DataContainer.createNew()
+                return new CompactDataContainer()
                         .set(DataQueries.X_POS, obj.getX())
                         .set(DataQueries.Y_POS, obj.getY())
                         .set(DataQueries.Z_POS, obj.getZ())
@@ -843,7 +844,7 @@ public LocalTime translate(DataView view) throws InvalidDataException {
 
             @Override
             public DataContainer translate(LocalTime obj) throws InvalidDataException {
-                return DataContainer.createNew()
+                return new CompactDataContainer()
                         .set(DataQueries.LOCAL_TIME_HOUR, obj.getHour())
                         .set(DataQueries.LOCAL_TIME_MINUTE, obj.getMinute())
                         .set(DataQueries.LOCAL_TIME_SECOND, obj.getSecond())
@@ -896,7 +897,7 @@ public LocalDate translate(DataView view) throws InvalidDataException {
 
             @Override
             public DataContainer translate(LocalDate obj) throws InvalidDataException {
-                return DataContainer.createNew()
+                return new CompactDataContainer()
                         .set(DataQueries.LOCAL_DATE_YEAR, obj.getYear())
                         .set(DataQueries.LOCAL_DATE_MONTH, obj.getMonth())
                         .set(DataQueries.LOCAL_DATE_DAY, obj.getDayOfMonth());
@@ -963,7 +964,7 @@ public LocalDateTime translate(DataView view) throws InvalidDataException {
 
             @Override
             public DataContainer translate(LocalDateTime obj) throws InvalidDataException {
-                return DataContainer.createNew()
+                return new CompactDataContainer()
                         .set(DataQueries.LOCAL_DATE_YEAR, obj.getYear())
                         .set(DataQueries.LOCAL_DATE_MONTH, obj.getMonth())
                         .set(DataQueries.LOCAL_DATE_DAY, obj.getDayOfMonth())
@@ -1042,7 +1043,7 @@ public ZonedDateTime translate(DataView view) throws InvalidDataException {
 
             @Override
             public DataContainer translate(ZonedDateTime obj) throws InvalidDataException {
-                return DataContainer.createNew()
+                return new CompactDataContainer()
                         .set(DataQueries.LOCAL_DATE_YEAR, obj.getYear())
                         .set(DataQueries.LOCAL_DATE_MONTH, obj.getMonth())
                         .set(DataQueries.LOCAL_DATE_DAY, obj.getDayOfMonth())
@@ -1120,7 +1121,7 @@ public Instant translate(DataView view) throws InvalidDataException {
             @Override
             public DataContainer translate(Instant obj) throws InvalidDataException {
                 final LocalDateTime local = obj.atZone(ZoneOffset.UTC).toLocalDateTime();
-                return DataContainer.createNew()
+                return new CompactDataContainer()
                         .set(DataQueries.LOCAL_DATE_YEAR, local.getYear())
                         .set(DataQueries.LOCAL_DATE_MONTH, local.getMonth())
                         .set(DataQueries.LOCAL_DATE_DAY, local.getDayOfMonth())
@@ -1172,7 +1173,7 @@ public Month translate(DataView view) throws InvalidDataException {
 
             @Override
             public DataContainer translate(Month obj) throws InvalidDataException {
-                return DataContainer.createNew().set(DataQueries.LOCAL_DATE_MONTH, obj.getValue());
+                return new CompactDataContainer().set(DataQueries.LOCAL_DATE_MONTH, obj.getValue());
             }
 
             @Override
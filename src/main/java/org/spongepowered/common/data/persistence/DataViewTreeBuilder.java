@@ -0,0 +1,110 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.common.data.CompactDataContainer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataViewVisitor} setting all visited data on a {@link DataView}.
+ * Views in lists are created as {@link CompactDataContainer}s without any
+ * cloning of data, like the {@link NbtTranslator} does.
+ */
+public final class DataViewTreeBuilder implements DataViewVisitor {
+
+    private static final class ListFrame {
+
+        final String key;
+        final List<DataView> views;
+
+        ListFrame(String key, int size) {
+            this.key = key;
+            this.views = new ArrayList<>(size);
+        }
+    }
+
+    // Contains the open views and lists of views
+    private final Deque<Object> stack = new ArrayDeque<>();
+
+    public DataViewTreeBuilder(DataView root) {
+        this.stack.push(checkNotNull(root, "root"));
+    }
+
+    private DataView currentView() {
+        final Object top = this.stack.peek();
+        checkState(top instanceof DataView, "Expected a view, but a list is open");
+        return (DataView) top;
+    }
+
+    @Override
+    public void visitValue(String key, Object value) {
+        currentView().set(of(key), value);
+    }
+
+    @Override
+    public void visitViewStart(@Nullable String key) {
+        final Object top = this.stack.peek();
+        if (top instanceof ListFrame) {
+            checkState(key == null, "List elements may not be named");
+            final DataView view = new CompactDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+            ((ListFrame) top).views.add(view);
+            this.stack.push(view);
+        } else {
+            checkState(key != null, "Only list elements may be unnamed");
+            this.stack.push(currentView().createView(of(key)));
+        }
+    }
+
+    @Override
+    public void visitViewEnd() {
+        checkState(this.stack.size() > 1 && this.stack.peek() instanceof DataView, "Unbalanced view end");
+        this.stack.pop();
+    }
+
+    @Override
+    public void visitListStart(String key, int size) {
+        currentView();
+        this.stack.push(new ListFrame(key, size));
+    }
+
+    @Override
+    public void visitListEnd() {
+        checkState(this.stack.peek() instanceof ListFrame, "Unbalanced list end");
+        final ListFrame frame = (ListFrame) this.stack.pop();
+        currentView().set(of(frame.key), frame.views);
+    }
+
+}
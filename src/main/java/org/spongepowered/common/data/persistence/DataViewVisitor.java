@@ -0,0 +1,132 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+import java.io.IOException;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Receives the contents of a {@link DataView} as a stream of events, so
+ * that data can be translated between formats without building a full
+ * tree of either. Keys are {@code null} for views and lists which are
+ * elements of a list.
+ */
+public interface DataViewVisitor {
+
+    /**
+     * Visits a value which is not a nested view, such as a number, string,
+     * array or a list of such values.
+     *
+     * @param key The key of the value
+     * @param value The value
+     * @throws IOException If the visitor failed to handle the value
+     */
+    void visitValue(String key, Object value) throws IOException;
+
+    /**
+     * Visits the start of a nested view. All following events up to the
+     * matching {@link #visitViewEnd()} belong to this view.
+     *
+     * @param key The key of the view, or null if it's a list element
+     * @throws IOException If the visitor failed to handle the view
+     */
+    void visitViewStart(@Nullable String key) throws IOException;
+
+    /**
+     * Visits the end of the current view.
+     *
+     * @throws IOException If the visitor failed to handle the view
+     */
+    void visitViewEnd() throws IOException;
+
+    /**
+     * Visits the start of a list of views. It is followed by exactly
+     * {@code size} views and a matching {@link #visitListEnd()}.
+     *
+     * @param key The key of the list
+     * @param size The amount of views in the list
+     * @throws IOException If the visitor failed to handle the list
+     */
+    void visitListStart(String key, int size) throws IOException;
+
+    /**
+     * Visits the end of the current list.
+     *
+     * @throws IOException If the visitor failed to handle the list
+     */
+    void visitListEnd() throws IOException;
+
+    /**
+     * Emits the contents of the given view to the visitor. Lists of views
+     * are streamed as well, any other value is passed as a whole.
+     *
+     * @param view The view to walk
+     * @param visitor The visitor
+     * @throws IOException If the visitor failed
+     */
+    static void walk(DataView view, DataViewVisitor visitor) throws IOException {
+        for (DataQuery query : view.getKeys(false)) {
+            final Object value = view.get(query).orElse(null);
+            if (value == null) {
+                continue;
+            }
+            final String key = query.asString('.');
+            if (value instanceof DataView) {
+                visitor.visitViewStart(key);
+                walk((DataView) value, visitor);
+                visitor.visitViewEnd();
+            } else if (value instanceof List && isViewList((List<?>) value)) {
+                final List<?> list = (List<?>) value;
+                visitor.visitListStart(key, list.size());
+                for (Object element : list) {
+                    visitor.visitViewStart(null);
+                    walk((DataView) element, visitor);
+                    visitor.visitViewEnd();
+                }
+                visitor.visitListEnd();
+            } else {
+                visitor.visitValue(key, value);
+            }
+        }
+    }
+
+    static boolean isViewList(List<?> list) {
+        if (list.isEmpty()) {
+            return false;
+        }
+        for (Object element : list) {
+            if (!(element instanceof DataView)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
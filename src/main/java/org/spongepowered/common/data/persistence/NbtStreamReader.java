@@ -0,0 +1,175 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.Lists;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.common.data.CompactDataContainer;
+import org.spongepowered.common.data.util.NbtDataUtil;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Reads the binary NBT format from a {@link DataInput} and emits its
+ * contents to a {@link DataViewVisitor}, without reading the data in to
+ * an {@link net.minecraft.nbt.NBTTagCompound} first. The visited data is
+ * the same as translating the compound with the {@link NbtTranslator}.
+ */
+public final class NbtStreamReader {
+
+    private static final int MAX_DEPTH = 512;
+
+    private final DataInput input;
+
+    public NbtStreamReader(DataInput input) {
+        this.input = checkNotNull(input, "input");
+    }
+
+    /**
+     * Reads a named root compound, emitting its contents to the visitor.
+     *
+     * @param visitor The visitor
+     * @throws IOException If reading failed or the data is malformed
+     */
+    public void readRoot(DataViewVisitor visitor) throws IOException {
+        if (this.input.readByte() != NbtDataUtil.TAG_COMPOUND) {
+            throw new IOException("Root tag must be a named compound tag");
+        }
+        this.input.readUTF();
+        readCompound(visitor, 0);
+    }
+
+    private void readCompound(DataViewVisitor visitor, int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new IOException("Tried to read NBT tag with too high complexity, depth > " + MAX_DEPTH);
+        }
+        byte type;
+        while ((type = this.input.readByte()) != NbtDataUtil.TAG_END) {
+            final String key = this.input.readUTF();
+            switch (type) {
+                case NbtDataUtil.TAG_COMPOUND:
+                    visitor.visitViewStart(key);
+                    readCompound(visitor, depth + 1);
+                    visitor.visitViewEnd();
+                    break;
+                case NbtDataUtil.TAG_LIST:
+                    final byte elementType = this.input.readByte();
+                    final int size = readLength();
+                    if (elementType == NbtDataUtil.TAG_COMPOUND && size > 0) {
+                        visitor.visitListStart(key, size);
+                        for (int i = 0; i < size; i++) {
+                            visitor.visitViewStart(null);
+                            readCompound(visitor, depth + 1);
+                            visitor.visitViewEnd();
+                        }
+                        visitor.visitListEnd();
+                    } else {
+                        visitor.visitValue(key, readList(elementType, size, depth + 1));
+                    }
+                    break;
+                case NbtDataUtil.TAG_BYTE:
+                    final byte value = this.input.readByte();
+                    if (key.contains(NbtTranslator.BOOLEAN_IDENTIFER)) {
+                        visitor.visitValue(key.replace(NbtTranslator.BOOLEAN_IDENTIFER, ""), value != 0);
+                    } else {
+                        visitor.visitValue(key, value);
+                    }
+                    break;
+                default:
+                    visitor.visitValue(key, readPayload(type, depth + 1));
+            }
+        }
+    }
+
+    private int readLength() throws IOException {
+        final int length = this.input.readInt();
+        if (length < 0) {
+            throw new IOException("Negative NBT length: " + length);
+        }
+        return length;
+    }
+
+    private List<Object> readList(byte elementType, int size, int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new IOException("Tried to read NBT tag with too high complexity, depth > " + MAX_DEPTH);
+        }
+        if (elementType == NbtDataUtil.TAG_END && size > 0) {
+            throw new IOException("Missing type on a non empty NBT list");
+        }
+        final List<Object> list = Lists.newArrayListWithCapacity(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readPayload(elementType, depth));
+        }
+        return list;
+    }
+
+    private Object readPayload(byte type, int depth) throws IOException {
+        final DataInput input = this.input;
+        switch (type) {
+            case NbtDataUtil.TAG_BYTE:
+                return input.readByte();
+            case NbtDataUtil.TAG_SHORT:
+                return input.readShort();
+            case NbtDataUtil.TAG_INT:
+                return input.readInt();
+            case NbtDataUtil.TAG_LONG:
+                return input.readLong();
+            case NbtDataUtil.TAG_FLOAT:
+                return input.readFloat();
+            case NbtDataUtil.TAG_DOUBLE:
+                return input.readDouble();
+            case NbtDataUtil.TAG_BYTE_ARRAY: {
+                final byte[] array = new byte[readLength()];
+                input.readFully(array);
+                return array;
+            }
+            case NbtDataUtil.TAG_STRING:
+                return input.readUTF();
+            case NbtDataUtil.TAG_LIST: {
+                final byte elementType = input.readByte();
+                return readList(elementType, readLength(), depth + 1);
+            }
+            case NbtDataUtil.TAG_COMPOUND: {
+                final DataView view = new CompactDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+                readCompound(new DataViewTreeBuilder(view), depth);
+                return view;
+            }
+            case NbtDataUtil.TAG_INT_ARRAY: {
+                final int[] array = new int[readLength()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = input.readInt();
+                }
+                return array;
+            }
+            default:
+                throw new IOException("Unknown NBT type " + type);
+        }
+    }
+
+}
@@ -0,0 +1,244 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.common.data.util.NbtDataUtil;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataViewVisitor} writing the binary NBT format directly to a
+ * {@link DataOutput}, producing the same output as translating the view
+ * with the {@link NbtTranslator} and writing the resulting compound.
+ */
+public final class NbtStreamWriter implements DataViewVisitor {
+
+    private final DataOutput output;
+    // Whether the current element is a list, for each open view and list
+    private boolean[] inList = new boolean[16];
+    private int depth;
+
+    public NbtStreamWriter(DataOutput output) {
+        this.output = checkNotNull(output, "output");
+    }
+
+    /**
+     * Writes the given view as a named root compound.
+     *
+     * @param view The view to write
+     * @throws IOException If writing failed
+     */
+    public void writeRoot(DataView view) throws IOException {
+        this.output.writeByte(NbtDataUtil.TAG_COMPOUND);
+        this.output.writeUTF("");
+        DataViewVisitor.walk(view, this);
+        this.output.writeByte(NbtDataUtil.TAG_END);
+    }
+
+    @Override
+    public void visitValue(String key, Object value) throws IOException {
+        if (value instanceof Boolean) {
+            writeNamed(key + NbtTranslator.BOOLEAN_IDENTIFER, value);
+        } else {
+            writeNamed(key, value);
+        }
+    }
+
+    @Override
+    public void visitViewStart(@Nullable String key) throws IOException {
+        if (key != null) {
+            this.output.writeByte(NbtDataUtil.TAG_COMPOUND);
+            this.output.writeUTF(key);
+        } else {
+            checkState(this.depth > 0 && this.inList[this.depth - 1], "Only list elements may be unnamed");
+        }
+        push(false);
+    }
+
+    @Override
+    public void visitViewEnd() throws IOException {
+        pop(false);
+        this.output.writeByte(NbtDataUtil.TAG_END);
+    }
+
+    @Override
+    public void visitListStart(String key, int size) throws IOException {
+        this.output.writeByte(NbtDataUtil.TAG_LIST);
+        this.output.writeUTF(key);
+        this.output.writeByte(NbtDataUtil.TAG_COMPOUND);
+        this.output.writeInt(size);
+        push(true);
+    }
+
+    @Override
+    public void visitListEnd() {
+        pop(true);
+    }
+
+    private void push(boolean list) {
+        if (this.depth == this.inList.length) {
+            final boolean[] inList = new boolean[this.depth * 2];
+            System.arraycopy(this.inList, 0, inList, 0, this.depth);
+            this.inList = inList;
+        }
+        this.inList[this.depth++] = list;
+    }
+
+    private void pop(boolean list) {
+        checkState(this.depth > 0 && this.inList[this.depth - 1] == list, "Unbalanced view or list end");
+        this.depth--;
+    }
+
+    private void writeNamed(String key, Object value) throws IOException {
+        this.output.writeByte(getType(value));
+        this.output.writeUTF(key);
+        writePayload(value);
+    }
+
+    private static byte getType(Object value) {
+        if (value instanceof Boolean || value instanceof Byte) {
+            return NbtDataUtil.TAG_BYTE;
+        } else if (value instanceof Short) {
+            return NbtDataUtil.TAG_SHORT;
+        } else if (value instanceof Integer) {
+            return NbtDataUtil.TAG_INT;
+        } else if (value instanceof Long) {
+            return NbtDataUtil.TAG_LONG;
+        } else if (value instanceof Float) {
+            return NbtDataUtil.TAG_FLOAT;
+        } else if (value instanceof Double) {
+            return NbtDataUtil.TAG_DOUBLE;
+        } else if (value instanceof String) {
+            return NbtDataUtil.TAG_STRING;
+        } else if (value instanceof byte[] || value instanceof Byte[]) {
+            return NbtDataUtil.TAG_BYTE_ARRAY;
+        } else if (value instanceof int[] || value instanceof Integer[]) {
+            return NbtDataUtil.TAG_INT_ARRAY;
+        } else if (value instanceof List) {
+            return NbtDataUtil.TAG_LIST;
+        } else if (value instanceof Map || value instanceof DataSerializable || value instanceof DataView) {
+            return NbtDataUtil.TAG_COMPOUND;
+        }
+        throw new IllegalArgumentException("Unable to translate object to NBTBase: " + value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writePayload(Object value) throws IOException {
+        final DataOutput output = this.output;
+        if (value instanceof Boolean) {
+            output.writeByte((Boolean) value ? 1 : 0);
+        } else if (value instanceof Byte) {
+            output.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            output.writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            output.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            output.writeDouble((Double) value);
+        } else if (value instanceof String) {
+            output.writeUTF((String) value);
+        } else if (value instanceof byte[]) {
+            final byte[] array = (byte[]) value;
+            output.writeInt(array.length);
+            output.write(array);
+        } else if (value instanceof Byte[]) {
+            final Byte[] array = (Byte[]) value;
+            output.writeInt(array.length);
+            for (Byte data : array) {
+                output.writeByte(data);
+            }
+        } else if (value instanceof int[]) {
+            final int[] array = (int[]) value;
+            output.writeInt(array.length);
+            for (int data : array) {
+                output.writeInt(data);
+            }
+        } else if (value instanceof Integer[]) {
+            final Integer[] array = (Integer[]) value;
+            output.writeInt(array.length);
+            for (Integer data : array) {
+                output.writeInt(data);
+            }
+        } else if (value instanceof List) {
+            final List<Object> list = (List<Object>) value;
+            // Lists are homogeneous in NBT, so the first element decides the type
+            // and, like NBTTagList#appendTag, elements of other types are skipped
+            final byte type = list.isEmpty() ? NbtDataUtil.TAG_END : getType(list.get(0));
+            int size = 0;
+            for (Object element : list) {
+                if (getType(element) == type) {
+                    size++;
+                }
+            }
+            output.writeByte(type);
+            output.writeInt(size);
+            for (Object element : list) {
+                if (getType(element) == type) {
+                    writePayload(element);
+                }
+            }
+        } else if (value instanceof Map) {
+            for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) value).entrySet()) {
+                if (entry.getKey() instanceof DataQuery) {
+                    final String key = ((DataQuery) entry.getKey()).asString('.');
+                    writeNamed(entry.getValue() instanceof Boolean ? key + NbtTranslator.BOOLEAN_IDENTIFER : key, entry.getValue());
+                } else {
+                    writeNamed(entry.getKey().toString(), entry.getValue());
+                }
+            }
+            output.writeByte(NbtDataUtil.TAG_END);
+        } else if (value instanceof DataSerializable) {
+            writeView(((DataSerializable) value).toContainer());
+        } else if (value instanceof DataView) {
+            writeView((DataView) value);
+        } else {
+            throw new IllegalArgumentException("Unable to translate object to NBTBase: " + value);
+        }
+    }
+
+    private void writeView(DataView view) throws IOException {
+        // Views inside of value lists are written with a fresh writer
+        // state, as they can't be part of the current view
+        final NbtStreamWriter writer = new NbtStreamWriter(this.output);
+        DataViewVisitor.walk(view, writer);
+        this.output.writeByte(NbtDataUtil.TAG_END);
+    }
+
+}
@@ -49,8 +49,12 @@
 import org.spongepowered.api.data.DataView;
 import org.spongepowered.api.data.persistence.DataTranslator;
 import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.common.data.CompactDataContainer;
 import org.spongepowered.common.data.util.NbtDataUtil;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -166,7 +170,7 @@ private static NBTBase getBaseFromObject(Object value) {
 
     private static DataContainer getViewFromCompound(NBTTagCompound compound) {
         checkNotNull(compound);
-        DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        DataContainer container = new CompactDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
         NbtTranslator.getInstance().addTo(compound, container);
         return container;
     }
@@ -287,6 +291,33 @@ public DataContainer translateFrom(NBTTagCompound node) {
         return NbtTranslator.getViewFromCompound(node);
     }
 
+    /**
+     * Reads a named root compound in the binary NBT format directly in to a
+     * new {@link DataContainer}, without creating the intermediate
+     * {@link NBTTagCompound}.
+     *
+     * @param input The input to read from
+     * @return The read data
+     * @throws IOException If reading failed or the data is malformed
+     */
+    public DataContainer read(DataInput input) throws IOException {
+        final DataContainer container = new CompactDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+        new NbtStreamReader(input).readRoot(new DataViewTreeBuilder(container));
+        return container;
+    }
+
+    /**
+     * Writes the view as a named root compound in the binary NBT format,
+     * without creating the intermediate {@link NBTTagCompound}.
+     *
+     * @param view The view to write
+     * @param output The output to write to
+     * @throws IOException If writing failed
+     */
+    public void write(DataView view, DataOutput output) throws IOException {
+        new NbtStreamWriter(output).writeRoot(view);
+    }
+
     @Override
     public TypeToken<NBTTagCompound> getToken() {
         return TOKEN;
@@ -35,6 +35,7 @@
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.data.util.DataUtil;
 
 import java.util.IdentityHashMap;
 import java.util.Map;
@@ -55,6 +56,16 @@ public boolean supports(DataHolder dataHolder) {
         return this.holderClass.isInstance(dataHolder) && supports((Holder) dataHolder);
     }
 
+    @Override
+    public Optional<Class<?>> getSupportedHolderClass() {
+        // Only static if neither supports method is overridden
+        if (DataUtil.isDeclaredBy(getClass(), AbstractMultiDataSingleTargetProcessor.class, "supports", DataHolder.class)
+                && DataUtil.isDeclaredBy(getClass(), AbstractMultiDataSingleTargetProcessor.class, "supports", Object.class)) {
+            return Optional.of(this.holderClass);
+        }
+        return Optional.empty();
+    }
+
     protected boolean supports(Holder dataHolder) {
         return true;
     }
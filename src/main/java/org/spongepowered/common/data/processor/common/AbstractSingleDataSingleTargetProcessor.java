@@ -69,6 +69,16 @@ public boolean supports(DataHolder dataHolder) {
         return this.holderClass.isInstance(dataHolder) && supports((Holder) dataHolder);
     }
 
+    @Override
+    public Optional<Class<?>> getSupportedHolderClass() {
+        // Only static if neither supports method is overridden
+        if (DataUtil.isDeclaredBy(getClass(), AbstractSingleDataSingleTargetProcessor.class, "supports", DataHolder.class)
+                && DataUtil.isDeclaredBy(getClass(), AbstractSingleDataSingleTargetProcessor.class, "supports", Object.class)) {
+            return Optional.of(this.holderClass);
+        }
+        return Optional.empty();
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public DataTransactionResult set(DataHolder dataHolder, M manipulator, MergeFunction function) {
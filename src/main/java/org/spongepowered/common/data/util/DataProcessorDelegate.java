@@ -41,11 +41,18 @@
 import org.spongepowered.common.data.DataProcessor;
 import org.spongepowered.common.util.ServerUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class DataProcessorDelegate<M extends DataManipulator<M, I>, I extends ImmutableDataManipulator<I, M>> implements DataProcessor<M, I> {
 
     private final ImmutableList<Tuple<DataProcessor<M, I>, Timing>> processors;
+    // The processors that may support a holder class, in priority order. Delegates
+    // are rebuilt whenever a processor is registered, so this never goes stale.
+    private final Map<Class<?>, Candidate<M, I>[]> candidates = new ConcurrentHashMap<>();
 
     public DataProcessorDelegate(ImmutableList<DataProcessor<M, I>> processors) {
         ImmutableList.Builder<Tuple<DataProcessor<M, I>, Timing>> builder = ImmutableList.builder();
@@ -55,6 +62,24 @@ public DataProcessorDelegate(ImmutableList<DataProcessor<M, I>> processors) {
         this.processors = builder.build();
     }
 
+    private Candidate<M, I>[] getCandidates(DataHolder dataHolder) {
+        return this.candidates.computeIfAbsent(dataHolder.getClass(), this::resolveCandidates);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Candidate<M, I>[] resolveCandidates(Class<?> holderClass) {
+        final List<Candidate<M, I>> list = new ArrayList<>();
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+            final Optional<Class<?>> supportedClass = tuple.getFirst().getSupportedHolderClass();
+            if (!supportedClass.isPresent()) {
+                list.add(new Candidate<>(tuple.getFirst(), tuple.getSecond(), false));
+            } else if (supportedClass.get().isAssignableFrom(holderClass)) {
+                list.add(new Candidate<>(tuple.getFirst(), tuple.getSecond(), true));
+            }
+        }
+        return list.toArray(new Candidate[list.size()]);
+    }
+
     @Override
     public int getPriority() {
         return Integer.MAX_VALUE;
@@ -64,18 +89,18 @@ public int getPriority() {
     public boolean supports(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Candidate<M, I> candidate : getCandidates(dataHolder)) {
             if (callingFromMinecraftThread) {
-                tuple.getSecond().startTiming();
+                candidate.timing.startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
+            if (candidate.supports(dataHolder)) {
                 if (callingFromMinecraftThread) {
-                    tuple.getSecond().stopTiming();
+                    candidate.timing.stopTiming();
                 }
                 return true;
             }
             if (callingFromMinecraftThread) {
-                tuple.getSecond().stopTiming();
+                candidate.timing.stopTiming();
             }
         }
         return false;
@@ -90,14 +115,14 @@ public boolean supports(EntityType entityType) {
     public Optional<M> from(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Candidate<M, I> candidate : getCandidates(dataHolder)) {
             if (callingFromMinecraftThread) {
-                tuple.getSecond().startTiming();
+                candidate.timing.startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
-                final Optional<M> optional = tuple.getFirst().from(dataHolder);
+            if (candidate.supports(dataHolder)) {
+                final Optional<M> optional = candidate.processor.from(dataHolder);
                 if (callingFromMinecraftThread) {
-                    tuple.getSecond().stopTiming();
+                    candidate.timing.stopTiming();
                 }
                 if (optional.isPresent()) {
                     return optional;
@@ -105,7 +130,7 @@ public Optional<M> from(DataHolder dataHolder) {
             }
 
             if (callingFromMinecraftThread) {
-                tuple.getSecond().stopTiming();
+                candidate.timing.stopTiming();
             }
         }
         return Optional.empty();
@@ -115,21 +140,21 @@ public Optional<M> from(DataHolder dataHolder) {
     public Optional<M> fill(DataHolder dataHolder, M manipulator, MergeFunction overlap) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Candidate<M, I> candidate : getCandidates(dataHolder)) {
             if (callingFromMinecraftThread) {
-                tuple.getSecond().startTiming();
+                candidate.timing.startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
-                final Optional<M> optional = tuple.getFirst().fill(dataHolder, manipulator, overlap);
+            if (candidate.supports(dataHolder)) {
+                final Optional<M> optional = candidate.processor.fill(dataHolder, manipulator, overlap);
                 if (callingFromMinecraftThread) {
-                    tuple.getSecond().stopTiming();
+                    candidate.timing.stopTiming();
                 }
                 if (optional.isPresent()) {
                     return optional;
                 }
             }
             if (callingFromMinecraftThread) {
-                tuple.getSecond().stopTiming();
+                candidate.timing.stopTiming();
             }
 
         }
@@ -159,21 +184,21 @@ public Optional<M> fill(DataContainer container, M m) {
     public DataTransactionResult set(DataHolder dataHolder, M manipulator, MergeFunction function) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Candidate<M, I> candidate : getCandidates(dataHolder)) {
             if (callingFromMinecraftThread) {
-                tuple.getSecond().startTiming();
+                candidate.timing.startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
-                final DataTransactionResult result = tuple.getFirst().set(dataHolder, manipulator, function);
+            if (candidate.supports(dataHolder)) {
+                final DataTransactionResult result = candidate.processor.set(dataHolder, manipulator, function);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
                     if (callingFromMinecraftThread) {
-                        tuple.getSecond().stopTiming();
+                        candidate.timing.stopTiming();
                     }
                     return result;
                 }
             }
             if (callingFromMinecraftThread) {
-                tuple.getSecond().stopTiming();
+                candidate.timing.stopTiming();
             }
         }
         return DataTransactionResult.failResult(manipulator.asImmutable().getValues());
@@ -203,21 +228,21 @@ public Optional<I> with(Key<? extends BaseValue<?>> key, Object value, I immutab
     public DataTransactionResult remove(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Candidate<M, I> candidate : getCandidates(dataHolder)) {
             if (callingFromMinecraftThread) {
-                tuple.getSecond().startTiming();
+                candidate.timing.startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
-                final DataTransactionResult result = tuple.getFirst().remove(dataHolder);
+            if (candidate.supports(dataHolder)) {
+                final DataTransactionResult result = candidate.processor.remove(dataHolder);
                 if (callingFromMinecraftThread) {
-                    tuple.getSecond().stopTiming();
+                    candidate.timing.stopTiming();
                 }
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
                     return result;
                 }
             }
             if (callingFromMinecraftThread) {
-                tuple.getSecond().stopTiming();
+                candidate.timing.stopTiming();
             }
 
         }
@@ -228,24 +253,42 @@ public DataTransactionResult remove(DataHolder dataHolder) {
     public Optional<M> createFrom(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Candidate<M, I> candidate : getCandidates(dataHolder)) {
             if (callingFromMinecraftThread) {
-                tuple.getSecond().startTiming();
+                candidate.timing.startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
-                final Optional<M> optional = tuple.getFirst().createFrom(dataHolder);
+            if (candidate.supports(dataHolder)) {
+                final Optional<M> optional = candidate.processor.createFrom(dataHolder);
                 if (callingFromMinecraftThread) {
-                    tuple.getSecond().stopTiming();
+                    candidate.timing.stopTiming();
                 }
                 if (optional.isPresent()) {
                     return optional;
                 }
             }
             if (callingFromMinecraftThread) {
-                tuple.getSecond().stopTiming();
+                candidate.timing.stopTiming();
             }
         }
         return Optional.empty();
     }
 
+    private static final class Candidate<M extends DataManipulator<M, I>, I extends ImmutableDataManipulator<I, M>> {
+
+        final DataProcessor<M, I> processor;
+        final Timing timing;
+        // Whether the holder class alone already decides support
+        final boolean supportedByClass;
+
+        Candidate(DataProcessor<M, I> processor, Timing timing, boolean supportedByClass) {
+            this.processor = processor;
+            this.timing = timing;
+            this.supportedByClass = supportedByClass;
+        }
+
+        boolean supports(DataHolder dataHolder) {
+            return this.supportedByClass || this.processor.supports(dataHolder);
+        }
+    }
+
 }
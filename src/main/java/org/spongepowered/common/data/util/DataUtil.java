@@ -291,6 +291,27 @@ public static Supplier<InvalidDataException> dataNotFound() {
         registerDataProcessorAndImpl(manipulatorClass, implClass, immutableDataManipulator, implImClass, processor);
         registerValueProcessor(processor.getKey(), processor);
     }
+    /**
+     * Checks that the given method is not overridden by the given type or
+     * any of its superclasses below the declaring class.
+     *
+     * @param type The type to check
+     * @param declaringClass The class declaring the method
+     * @param name The method name
+     * @param parameterTypes The erased parameter types
+     * @return True if the method of the declaring class is used
+     */
+    public static boolean isDeclaredBy(Class<?> type, Class<?> declaringClass, String name, Class<?>... parameterTypes) {
+        for (Class<?> clazz = type; clazz != null && clazz != declaringClass; clazz = clazz.getSuperclass()) {
+            try {
+                clazz.getDeclaredMethod(name, parameterTypes);
+                return false;
+            } catch (NoSuchMethodException ignored) {
+            }
+        }
+        return true;
+    }
+
     /**
      * Gets the {@link DataProcessorDelegate} for the provided
      * {@link DataManipulator} class.
@@ -0,0 +1,99 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EnumCreatureType;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.interfaces.entity.IMixinEntity;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+
+/**
+ * Maintains the per-world creature counters used by the world spawner in
+ * place of scanning every loaded entity.
+ *
+ * <p>Each entity is classified once into a bit mask of the
+ * {@link EnumCreatureType}s it counts towards for spawning, and the mask is
+ * added to or removed from the counters of its world as the entity joins or
+ * leaves it.</p>
+ */
+public final class CreatureCounts {
+
+    private static final EnumCreatureType[] TYPES = EnumCreatureType.values();
+
+    public static int[] create() {
+        return new int[TYPES.length];
+    }
+
+    /**
+     * Computes the creature types the entity currently counts towards.
+     *
+     * @param entity The entity
+     * @return The bit mask of {@link EnumCreatureType} ordinals
+     */
+    public static int computeMask(Entity entity) {
+        int mask = 0;
+        for (EnumCreatureType type : TYPES) {
+            if (SpongeImplHooks.isCreatureOfType(entity, type, true)) {
+                mask |= 1 << type.ordinal();
+            }
+        }
+        return mask;
+    }
+
+    public static void adjust(int[] counts, int mask, int delta) {
+        for (int i = 0; mask != 0; i++, mask >>>= 1) {
+            if ((mask & 1) != 0) {
+                counts[i] = Math.max(0, counts[i] + delta);
+            }
+        }
+    }
+
+    /**
+     * Reclassifies an entity after something affecting its creature types
+     * changed, such as it becoming persistent, and moves it between counters
+     * of its world accordingly.
+     *
+     * @param entity The entity
+     */
+    public static void refresh(Entity entity) {
+        final IMixinEntity mixinEntity = (IMixinEntity) entity;
+        final int oldMask = mixinEntity.getCreatureTypeMask();
+        final int newMask = computeMask(entity);
+        if (oldMask == newMask) {
+            return;
+        }
+        mixinEntity.setCreatureTypeMask(newMask);
+        if (mixinEntity.isCountedInWorld() && entity.world instanceof WorldServer) {
+            final IMixinWorldServer world = (IMixinWorldServer) entity.world;
+            world.adjustCreatureCounts(oldMask, -1);
+            world.adjustCreatureCounts(newMask, 1);
+        }
+    }
+
+    private CreatureCounts() {
+    }
+}
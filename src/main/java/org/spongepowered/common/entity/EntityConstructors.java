@@ -0,0 +1,94 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.world.World;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Caches factories for the {@code (World)} constructor of entity classes, so
+ * that hot paths such as the world spawner do not have to look the
+ * constructor up reflectively for every entity they create.
+ */
+public final class EntityConstructors {
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Function.class);
+    private static final MethodType APPLY_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final Map<Class<? extends Entity>, Function<World, ? extends Entity>> factories = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new entity of the given class through its {@code (World)}
+     * constructor.
+     *
+     * @param entityClass The entity class
+     * @param world The world to create the entity in
+     * @param <E> The entity type
+     * @return The new entity
+     * @throws IllegalArgumentException If the class has no accessible {@code (World)} constructor
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Entity> E create(Class<E> entityClass, World world) {
+        return (E) factories.computeIfAbsent(entityClass, EntityConstructors::createFactory).apply(world);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<World, ? extends Entity> createFactory(Class<? extends Entity> entityClass) {
+        final Constructor<? extends Entity> constructor;
+        try {
+            constructor = entityClass.getConstructor(World.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("Entity class " + entityClass.getName() + " has no (World) constructor", e);
+        }
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final MethodHandle handle = lookup.unreflectConstructor(constructor);
+            final CallSite site = LambdaMetafactory.metafactory(lookup, "apply", FACTORY_TYPE, APPLY_TYPE, handle, handle.type());
+            return (Function<World, ? extends Entity>) site.getTarget().invoke();
+        } catch (Throwable t) {
+            // Classes not visible to this class loader, fall back to reflection
+            return world -> {
+                try {
+                    return constructor.newInstance(world);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("Could not construct " + entityClass.getName(), e);
+                }
+            };
+        }
+    }
+
+    private EntityConstructors() {
+    }
+}
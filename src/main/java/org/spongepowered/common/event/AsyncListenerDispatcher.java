@@ -0,0 +1,182 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.AsyncEventListenerCategory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * Delivers events to a single listener on the shared async listener pool.
+ * At most one task per listener is scheduled at a time, so the listener
+ * receives its events in the order they were posted and is never called
+ * concurrently.
+ *
+ * <p>When the queue of a listener is full, new events are dropped for that
+ * listener until it catches up. Neither blocking the posting thread nor
+ * handling the event there would keep those guarantees without stalling
+ * the server behind a slow listener. Each overflow is logged once, with
+ * the amount of dropped events logged once the queue has drained.</p>
+ *
+ * <p>Listeners receive the live event objects, so they must only read the
+ * event and may not touch the world or the {@code CauseStackManager}, both
+ * of which are only safe to use from the main thread.</p>
+ */
+final class AsyncListenerDispatcher implements Runnable {
+
+    // The amount of events handled before the task yields its pool thread
+    private static final int EVENTS_PER_RUN = 64;
+
+    @Nullable private static ExecutorService executor;
+
+    private final RegisteredListener<?> listener;
+    private final int maxQueuedEvents;
+    private final Queue<Event> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean overflowing = new AtomicBoolean();
+    private final AtomicInteger dropped = new AtomicInteger();
+    private volatile boolean cancelled;
+
+    private AsyncListenerDispatcher(RegisteredListener<?> listener, int maxQueuedEvents) {
+        this.listener = listener;
+        this.maxQueuedEvents = maxQueuedEvents;
+    }
+
+    /**
+     * Creates a dispatcher for the given listener if it is configured to
+     * receive its events asynchronously.
+     *
+     * @param listener The listener
+     * @return The dispatcher, or null if the listener is handled synchronously
+     */
+    @Nullable
+    static AsyncListenerDispatcher create(RegisteredListener<?> listener) {
+        if (!SpongeImpl.isInitialized() || listener.getOrder() != Order.POST || listener.isBeforeModifications()) {
+            return null;
+        }
+        final AsyncEventListenerCategory config = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncEventListenerCategory();
+        if (!config.isEnabled()) {
+            return null;
+        }
+        final String pluginId = listener.getPlugin().getId();
+        final String qualifiedName = pluginId + ":" + listener.getHandle().getClass().getName();
+        for (String entry : config.getListeners()) {
+            if (entry.equals(pluginId) || entry.equals(qualifiedName)) {
+                SpongeImpl.getLogger().warn("Listener {} from {} receives {} asynchronously. It must not modify the event, access the world "
+                        + "or use the CauseStackManager.", listener.getHandle().getClass().getName(), pluginId, listener.getEventType());
+                return new AsyncListenerDispatcher(listener, config.getMaxQueuedEvents());
+            }
+        }
+        return null;
+    }
+
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            final int threads = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncEventListenerCategory().getThreads();
+            executor = Executors.newFixedThreadPool(Math.max(1, threads),
+                    new ThreadFactoryBuilder().setNameFormat("Sponge - Async Event Listener Thread - %d").setDaemon(true).build());
+        }
+        return executor;
+    }
+
+    /**
+     * Queues the event for the listener, or drops it if the queue of the
+     * listener is full.
+     *
+     * @param event The event
+     */
+    void offer(Event event) {
+        if (this.cancelled) {
+            return;
+        }
+        if (this.queued.incrementAndGet() > this.maxQueuedEvents) {
+            this.queued.decrementAndGet();
+            this.dropped.incrementAndGet();
+            if (this.overflowing.compareAndSet(false, true)) {
+                SpongeImpl.getLogger().warn("The event queue of async listener {} from {} is full ({} events), dropping events until it catches up",
+                        this.listener.getHandle().getClass().getName(), this.listener.getPlugin().getId(), this.maxQueuedEvents);
+            }
+            return;
+        }
+        this.queue.add(event);
+        this.schedule();
+    }
+
+    /**
+     * Drops all queued events and stops delivering events to the listener,
+     * called once the listener is unregistered. An event that is currently
+     * being handled is not interrupted.
+     */
+    void cancel() {
+        this.cancelled = true;
+        this.queue.clear();
+        this.queued.set(0);
+    }
+
+    private void schedule() {
+        if (this.scheduled.compareAndSet(false, true)) {
+            getExecutor().execute(this);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public void run() {
+        for (int i = 0; i < EVENTS_PER_RUN && !this.cancelled; i++) {
+            final Event event = this.queue.poll();
+            if (event == null) {
+                break;
+            }
+            this.queued.decrementAndGet();
+            try {
+                ((RegisteredListener) this.listener).handle(event);
+            } catch (Throwable e) {
+                SpongeImpl.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), this.listener.getPlugin(), e);
+            }
+        }
+        if (this.queue.isEmpty() && this.overflowing.compareAndSet(true, false)) {
+            SpongeImpl.getLogger().warn("Async listener {} from {} caught up, {} events were dropped",
+                    this.listener.getHandle().getClass().getName(), this.listener.getPlugin().getId(), this.dropped.getAndSet(0));
+        }
+        this.scheduled.set(false);
+        // Events may have been queued after the last poll, but before the flag was cleared
+        if (!this.queue.isEmpty()) {
+            this.schedule();
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.spongepowered.api.event.Event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A complete counterpart to {@link ShouldFire}, covering every event class
+ * rather than a hand maintained selection.
+ *
+ * <p>Each event class gets an id once, which is best stored in a static
+ * field. {@link #hasListeners(int)} is then a single array read. An event
+ * class has listeners if any listener is registered for the class itself,
+ * one of its supertypes or one of its subtypes.</p>
+ *
+ * <p>The flags are rebuilt as a new array whenever listeners change, readers
+ * never observe a partially updated table.</p>
+ */
+public final class EventListenerFlags {
+
+    private static final boolean ALL_TRUE = Boolean.parseBoolean(System.getProperty("sponge.shouldFireAll", "").toLowerCase());
+
+    private static final Object2IntMap<Class<?>> ids = new Object2IntOpenHashMap<>();
+    private static final List<Class<?>> idClasses = new ArrayList<>();
+    // The number of registered listeners per listened-to event class
+    private static final Object2IntMap<Class<?>> listenerCounts = new Object2IntOpenHashMap<>();
+    private static volatile boolean[] flags = new boolean[0];
+
+    static {
+        ids.defaultReturnValue(-1);
+    }
+
+    private EventListenerFlags() {
+    }
+
+    /**
+     * Gets the id of the given event class, to be passed to
+     * {@link #hasListeners(int)}.
+     *
+     * @param eventClass The event class
+     * @return The id
+     */
+    public static synchronized int getId(Class<? extends Event> eventClass) {
+        int id = ids.getInt(eventClass);
+        if (id == -1) {
+            id = idClasses.size();
+            ids.put(eventClass, id);
+            idClasses.add(eventClass);
+            final boolean[] updated = Arrays.copyOf(flags, id + 1);
+            updated[id] = computeFlag(eventClass);
+            flags = updated;
+        }
+        return id;
+    }
+
+    /**
+     * Gets whether any listener may receive events of the class with the
+     * given id.
+     *
+     * @param id The id of the event class
+     * @return Whether there are listeners
+     */
+    public static boolean hasListeners(int id) {
+        return ALL_TRUE || flags[id];
+    }
+
+    public static boolean hasListeners(Class<? extends Event> eventClass) {
+        return hasListeners(getId(eventClass));
+    }
+
+    static synchronized void registerListenerFor(Class<?> eventClass) {
+        if (listenerCounts.put(eventClass, listenerCounts.getInt(eventClass) + 1) == 0) {
+            rebuild();
+        }
+    }
+
+    static synchronized void unregisterListenerFor(Class<?> eventClass) {
+        final int count = listenerCounts.getInt(eventClass) - 1;
+        if (count <= 0) {
+            listenerCounts.removeInt(eventClass);
+            rebuild();
+        } else {
+            listenerCounts.put(eventClass, count);
+        }
+    }
+
+    private static void rebuild() {
+        final boolean[] updated = new boolean[idClasses.size()];
+        for (int id = 0; id < updated.length; id++) {
+            updated[id] = computeFlag(idClasses.get(id));
+        }
+        flags = updated;
+    }
+
+    private static boolean computeFlag(Class<?> eventClass) {
+        for (Class<?> listened : listenerCounts.keySet()) {
+            if (listened.isAssignableFrom(eventClass) || eventClass.isAssignableFrom(listened)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -38,6 +38,8 @@
 import java.util.EnumMap;
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 public final class RegisteredListener<T extends Event> implements SpongeEventListener<T>, Comparable<RegisteredListener<?>> {
 
     private final PluginContainer plugin;
@@ -49,6 +51,7 @@
 
     private final boolean beforeModifications;
     private Timing listenerTimer;
+    @Nullable private AsyncListenerDispatcher asyncDispatcher;
 
     RegisteredListener(PluginContainer plugin, EventType<T> eventType, Order order, EventListener<? super T> listener, boolean beforeModifications) {
         this.plugin = checkNotNull(plugin, "plugin");
@@ -74,6 +77,15 @@ public boolean isBeforeModifications() {
         return this.beforeModifications;
     }
 
+    @Nullable
+    AsyncListenerDispatcher getAsyncDispatcher() {
+        return this.asyncDispatcher;
+    }
+
+    void setAsyncDispatcher(@Nullable AsyncListenerDispatcher asyncDispatcher) {
+        this.asyncDispatcher = asyncDispatcher;
+    }
+
     public Timing getTimingsHandler() {
         if (this.listenerTimer == null) {
             this.listenerTimer = SpongeTimings.getPluginTimings(this.plugin, getHandle().getClass().getSimpleName());
@@ -56,6 +56,11 @@ public class SpongeCauseStackManager implements CauseStackManager {
 
     private final Deque<Object> cause = Queues.newArrayDeque();
     private final Deque<CauseStackFrameImpl> frames = Queues.newArrayDeque();
+    // Popped listener frames are reused, unless frames are being debugged.
+    // Frames handed out through the API are never pooled, as a stale handle
+    // could otherwise pop the frame of whoever reused it.
+    private static final int MAX_POOLED_FRAMES = 64;
+    private final Deque<CauseStackFrameImpl> framePool = Queues.newArrayDeque();
     private Map<EventContextKey<?>, Object> ctx = Maps.newHashMap();
 
     private int min_depth = 0;
@@ -139,7 +144,10 @@ public Object peekCause() {
     @Override
     public StackFrame pushCauseFrame() {
         enforceMainThread();
-        CauseStackFrameImpl frame = new CauseStackFrameImpl(this.min_depth);
+        return pushFrame(new CauseStackFrameImpl(this.min_depth));
+    }
+
+    private CauseStackFrameImpl pushFrame(CauseStackFrameImpl frame) {
         this.frames.push(frame);
         this.min_depth = this.cause.size();
         if (DEBUG_CAUSE_FRAMES) {
@@ -240,6 +248,50 @@ public void popCauseFrame(StackFrame oldFrame) {
         this.min_depth = frame.old_min_depth;
     }
 
+    /**
+     * Pushes the plugin of an event listener as a cause within a new frame.
+     * Must be paired with {@link #popListenerFrame}, which keeps the cached
+     * cause of the surrounding code when the listener left the context
+     * untouched, so it doesn't have to be rebuilt after every listener.
+     *
+     * @param plugin The plugin owning the listener
+     * @return The listener frame
+     */
+    public StackFrame pushListenerFrame(Object plugin) {
+        final Cause cause = this.cached_cause;
+        final EventContext context = this.cached_ctx;
+        pushCause(plugin);
+        enforceMainThread();
+        CauseStackFrameImpl frame = this.framePool.poll();
+        if (frame != null) {
+            frame.old_min_depth = this.min_depth;
+        } else {
+            frame = new CauseStackFrameImpl(this.min_depth);
+        }
+        pushFrame(frame);
+        frame.outer_cause = cause;
+        frame.outer_ctx = context;
+        return frame;
+    }
+
+    public void popListenerFrame(StackFrame oldFrame) {
+        final CauseStackFrameImpl frame = (CauseStackFrameImpl) oldFrame;
+        final Cause cause = frame.outer_cause;
+        final EventContext context = frame.outer_ctx;
+        popCauseFrame(frame);
+        // The listener frame handle never leaves the event manager, so it can safely be reused
+        if (!DEBUG_CAUSE_FRAMES && this.framePool.size() < MAX_POOLED_FRAMES) {
+            frame.clear();
+            this.framePool.push(frame);
+        }
+        popCause();
+        // The cause stack is back to its previous state at this point, so the
+        // previous cause is still valid as long as the context was not changed
+        if (cause != null && context != null && context == this.cached_ctx) {
+            this.cached_cause = cause;
+        }
+    }
+
     @Override
     public <T> CauseStackManager addContext(EventContextKey<T> key, T value) {
         enforceMainThread();
@@ -282,13 +334,15 @@ public <T> Optional<T> removeContext(EventContextKey<T> key) {
         return Optional.ofNullable((T) existing);
     }
 
-    // TODO could pool these for more fasts
     public static class CauseStackFrameImpl implements StackFrame {
 
         // lazy loaded
         @Nullable private Map<EventContextKey<?>, Object> stored_ctx_values;
         @Nullable private Set<EventContextKey<?>> new_ctx_values;
         public int old_min_depth;
+        // The cached cause and context from before a listener frame was pushed
+        @Nullable Cause outer_cause;
+        @Nullable EventContext outer_ctx;
 
         public Exception stack_debug = null;
 
@@ -296,6 +350,18 @@ public CauseStackFrameImpl(int old_depth) {
             this.old_min_depth = old_depth;
         }
 
+        void clear() {
+            if (this.stored_ctx_values != null) {
+                this.stored_ctx_values.clear();
+            }
+            if (this.new_ctx_values != null) {
+                this.new_ctx_values.clear();
+            }
+            this.stack_debug = null;
+            this.outer_cause = null;
+            this.outer_ctx = null;
+        }
+
         public boolean isStored(EventContextKey<?> key) {
             return this.stored_ctx_values != null && this.stored_ctx_values.containsKey(key);
         }
@@ -234,6 +234,23 @@ private static void applyTransactions(ChangeInventoryEvent.Pickup event) {
         }
     }
 
+    /**
+     * Gets whether {@link #callCollideEntityEvent} finds a source to post its
+     * event with. Without one, the event is not posted at all.
+     *
+     * @param sourceEntity The entity colliding, if known
+     * @return True if a source is available
+     */
+    public static boolean hasCollideEntitySource(@Nullable net.minecraft.entity.Entity sourceEntity) {
+        if (sourceEntity != null) {
+            return true;
+        }
+        final PhaseContext<?> context = PhaseTracker.getInstance().getCurrentContext();
+        return context.getSource(LocatableBlock.class).isPresent()
+                || context.getSource(TileEntity.class).isPresent()
+                || context.getSource(Entity.class).isPresent();
+    }
+
     @SuppressWarnings("unchecked")
     @Nullable
     public static CollideEntityEvent callCollideEntityEvent(net.minecraft.world.World world, @Nullable net.minecraft.entity.Entity sourceEntity,
@@ -31,6 +31,7 @@
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
@@ -85,6 +86,8 @@ public class SpongeEventManager implements EventManager {
     private final AnnotatedEventListener.Factory handlerFactory = new ClassEventListenerFactory("org.spongepowered.common.event.listener",
             new FilterFactory("org.spongepowered.common.event.filters", this.classLoader), this.classLoader);
     private final Multimap<Class<?>, RegisteredListener<?>> handlersByEvent = HashMultimap.create();
+    // An immutable copy of handlersByEvent, replaced on every change so baking doesn't need the lock
+    private volatile ImmutableMultimap<Class<?>, RegisteredListener<?>> handlersSnapshot = ImmutableMultimap.of();
     private final Set<Object> registeredListeners = Sets.newHashSet();
 
     public final ListenerChecker checker = new ListenerChecker(ShouldFire.class);
@@ -129,24 +132,23 @@ public SpongeEventManager(Logger logger, PluginManager pluginManager) {
     <T extends Event> RegisteredListener.Cache bakeHandlers(EventType<T> eventType) {
         final List<RegisteredListener<?>> handlers = new ArrayList<>();
         final Set<Class<? super T>> types = TypeToken.of(eventType.getType()).getTypes().rawTypes();
-
-        synchronized (this.lock) {
-            for (Class<? super T> type : types) {
-                if (Event.class.isAssignableFrom(type)) {
-                    final Collection<RegisteredListener<?>> listeners = this.handlersByEvent.get(type);
-                    if (GenericEvent.class.isAssignableFrom(type)) {
-                        final TypeToken<?> genericType = eventType.getGenericType();
-                        checkNotNull(genericType);
-                        for (RegisteredListener<?> listener : listeners) {
-                            final TypeToken<?> genericType1 = listener.getEventType().getGenericType();
-                            checkNotNull(genericType1);
-                            if (TypeTokenHelper.isAssignable(genericType, genericType1)) {
-                                handlers.add(listener);
-                            }
+        final ImmutableMultimap<Class<?>, RegisteredListener<?>> handlersByEvent = this.handlersSnapshot;
+
+        for (Class<? super T> type : types) {
+            if (Event.class.isAssignableFrom(type)) {
+                final Collection<RegisteredListener<?>> listeners = handlersByEvent.get(type);
+                if (GenericEvent.class.isAssignableFrom(type)) {
+                    final TypeToken<?> genericType = eventType.getGenericType();
+                    checkNotNull(genericType);
+                    for (RegisteredListener<?> listener : listeners) {
+                        final TypeToken<?> genericType1 = listener.getEventType().getGenericType();
+                        checkNotNull(genericType1);
+                        if (TypeTokenHelper.isAssignable(genericType, genericType1)) {
+                            handlers.add(listener);
                         }
-                    } else {
-                        handlers.addAll(listeners);
                     }
+                } else {
+                    handlers.addAll(listeners);
                 }
             }
         }
@@ -197,9 +199,14 @@ private void register(List<RegisteredListener<? extends Event>> handlers) {
                 final Class<?> raw = handler.getEventType().getType();
                 if (this.handlersByEvent.put(raw, handler)) {
                     changed = true;
+                    handler.setAsyncDispatcher(AsyncListenerDispatcher.create(handler));
                     this.checker.registerListenerFor(raw);
+                    EventListenerFlags.registerListenerFor(raw);
                 }
             }
+            if (changed) {
+                this.handlersSnapshot = ImmutableMultimap.copyOf(this.handlersByEvent);
+            }
         }
 
         if (changed) {
@@ -335,11 +342,19 @@ private void unregister(Predicate<RegisteredListener<?>> unregister) {
                 if (unregister.test(handler)) {
                     itr.remove();
                     changed = true;
+                    final AsyncListenerDispatcher asyncDispatcher = handler.getAsyncDispatcher();
+                    if (asyncDispatcher != null) {
+                        asyncDispatcher.cancel();
+                    }
                     // TODO: This doesn't seem right, even as it was before
                     this.checker.unregisterListenerFor(handler.getEventType().getType());
+                    EventListenerFlags.unregisterListenerFor(handler.getEventType().getType());
                     this.registeredListeners.remove(handler.getHandle());
                 }
             }
+            if (changed) {
+                this.handlersSnapshot = ImmutableMultimap.copyOf(this.handlersByEvent);
+            }
         }
 
         if (changed) {
@@ -378,6 +393,11 @@ protected boolean post(Event event, List<RegisteredListener<?>> handlers) {
             // If this event is being posted asynchronously then we don't want
             // to do any timing or cause stack changes
             for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
+                final AsyncListenerDispatcher asyncDispatcher = handler.getAsyncDispatcher();
+                if (asyncDispatcher != null) {
+                    asyncDispatcher.offer(event);
+                    continue;
+                }
                 try {
                     if (event instanceof AbstractEvent) {
                         ((AbstractEvent) event).currentOrder = handler.getOrder();
@@ -393,9 +413,16 @@ protected boolean post(Event event, List<RegisteredListener<?>> handlers) {
             return event instanceof Cancellable && ((Cancellable) event).isCancelled();
         }
         TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
+        final SpongeCauseStackManager causeStackManager = SpongeImpl.getCauseStackManager();
         for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
-            Sponge.getCauseStackManager().pushCause(handler.getPlugin());
-            try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
+            final AsyncListenerDispatcher asyncDispatcher = handler.getAsyncDispatcher();
+            if (asyncDispatcher != null) {
+                asyncDispatcher.offer(event);
+                continue;
+            }
+            // Pooled frames that keep the outer cause cached if the listener doesn't change the context
+            final CauseStackManager.StackFrame frame = causeStackManager.pushListenerFrame(handler.getPlugin());
+            try {
                 handler.getTimingsHandler().startTimingIfSync();
                 if (event instanceof AbstractEvent) {
                     ((AbstractEvent) event).currentOrder = handler.getOrder();
@@ -405,8 +432,8 @@ protected boolean post(Event event, List<RegisteredListener<?>> handlers) {
                 this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
             } finally {
                 handler.getTimingsHandler().stopTimingIfSync();
+                causeStackManager.popListenerFrame(frame);
             }
-            Sponge.getCauseStackManager().popCause();
         }
         if (event instanceof AbstractEvent) {
             ((AbstractEvent) event).currentOrder = null;
@@ -25,27 +25,39 @@
 package org.spongepowered.common.event.filter;
 
 import static org.objectweb.asm.Opcodes.AASTORE;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
 import static org.objectweb.asm.Opcodes.ALOAD;
 import static org.objectweb.asm.Opcodes.ANEWARRAY;
 import static org.objectweb.asm.Opcodes.ARETURN;
+import static org.objectweb.asm.Opcodes.ASTORE;
 import static org.objectweb.asm.Opcodes.BIPUSH;
 import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
+import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.IFNONNULL;
+import static org.objectweb.asm.Opcodes.IF_ICMPGE;
 import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.ISTORE;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V1_6;
 
 import com.google.common.collect.Lists;
 import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Type;
 import org.spongepowered.api.event.Cancellable;
 import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.filter.Getter;
 import org.spongepowered.api.event.filter.IsCancelled;
 import org.spongepowered.api.event.filter.cause.After;
@@ -75,6 +87,7 @@
 import org.spongepowered.common.event.filter.delegate.ParameterFilterDelegate;
 import org.spongepowered.common.event.filter.delegate.ParameterFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.RootCauseFilterSourceDelegate;
+import org.spongepowered.common.event.filter.delegate.ScanningCauseFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.SubtypeFilterDelegate;
 import org.spongepowered.common.event.filter.delegate.SupportsDataFilterDelegate;
 
@@ -160,6 +173,9 @@ public byte[] generateClass(String name, Method method) {
 
             // local var indices of the parameters values
             int[] plocals = new int[params.length - 1];
+            ParameterFilterSourceDelegate[] sources = new ParameterFilterSourceDelegate[params.length - 1];
+            List<List<ParameterFilterDelegate>> paramFilterLists = Lists.newArrayList();
+            int scanningSources = 0;
             for (int i = 1; i < params.length; i++) {
                 Parameter param = params[i];
                 ParameterFilterSourceDelegate source = null;
@@ -186,11 +202,31 @@ public byte[] generateClass(String name, Method method) {
                     throw new IllegalStateException(
                             "Cannot have additional parameters filters without an array source (for " + param.getName() + ")");
                 }
-                Tuple<Integer, Integer> localState = source.write(cw, mv, method, param, local);
-                local = localState.getFirst();
-                plocals[i - 1] = localState.getSecond();
+                if (source instanceof ScanningCauseFilterSourceDelegate) {
+                    scanningSources++;
+                }
+                sources[i - 1] = source;
+                paramFilterLists.add(paramFilters);
+            }
+
+            // With several @First/@Last parameters, find all of them in a single pass over the cause
+            boolean fused = scanningSources > 1;
+            if (fused) {
+                local = writeCauseScan(mv, params, sources, plocals, local);
+            }
+
+            for (int i = 1; i < params.length; i++) {
+                Parameter param = params[i];
+                ParameterFilterSourceDelegate source = sources[i - 1];
+                if (fused && source instanceof ScanningCauseFilterSourceDelegate) {
+                    ((ScanningCauseFilterSourceDelegate) source).writeFromScan(mv, param, plocals[i - 1]);
+                } else {
+                    Tuple<Integer, Integer> localState = source.write(cw, mv, method, param, local);
+                    local = localState.getFirst();
+                    plocals[i - 1] = localState.getSecond();
+                }
 
-                for (ParameterFilterDelegate paramFilter : paramFilters) {
+                for (ParameterFilterDelegate paramFilter : paramFilterLists.get(i - 1)) {
                     paramFilter.write(cw, mv, method, param, plocals[i - 1]);
                 }
             }
@@ -239,6 +275,66 @@ public byte[] generateClass(String name, Method method) {
         return data;
     }
 
+    /**
+     * Writes a single loop over the cause, storing the first or last cause
+     * matching each scanning source into a new local, or null if none match.
+     */
+    private static int writeCauseScan(MethodVisitor mv, Parameter[] params, ParameterFilterSourceDelegate[] sources, int[] plocals, int local) {
+        final int causesLocal = local++;
+        final int sizeLocal = local++;
+        final int indexLocal = local++;
+        final int causeLocal = local++;
+
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitMethodInsn(INVOKEINTERFACE, Type.getInternalName(Event.class), "getCause", "()" + Type.getDescriptor(Cause.class), true);
+        mv.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(Cause.class), "all", "()Ljava/util/List;", false);
+        mv.visitVarInsn(ASTORE, causesLocal);
+        for (int i = 0; i < sources.length; i++) {
+            if (sources[i] instanceof ScanningCauseFilterSourceDelegate) {
+                plocals[i] = local++;
+                mv.visitInsn(ACONST_NULL);
+                mv.visitVarInsn(ASTORE, plocals[i]);
+            }
+        }
+        mv.visitVarInsn(ALOAD, causesLocal);
+        mv.visitMethodInsn(INVOKEINTERFACE, "java/util/List", "size", "()I", true);
+        mv.visitVarInsn(ISTORE, sizeLocal);
+        mv.visitInsn(ICONST_0);
+        mv.visitVarInsn(ISTORE, indexLocal);
+
+        Label loop = new Label();
+        Label end = new Label();
+        mv.visitLabel(loop);
+        mv.visitVarInsn(ILOAD, indexLocal);
+        mv.visitVarInsn(ILOAD, sizeLocal);
+        mv.visitJumpInsn(IF_ICMPGE, end);
+        mv.visitVarInsn(ALOAD, causesLocal);
+        mv.visitVarInsn(ILOAD, indexLocal);
+        mv.visitMethodInsn(INVOKEINTERFACE, "java/util/List", "get", "(I)Ljava/lang/Object;", true);
+        mv.visitVarInsn(ASTORE, causeLocal);
+        for (int i = 0; i < sources.length; i++) {
+            if (!(sources[i] instanceof ScanningCauseFilterSourceDelegate)) {
+                continue;
+            }
+            Label next = new Label();
+            if (!((ScanningCauseFilterSourceDelegate) sources[i]).selectsLast()) {
+                // Keep the first match
+                mv.visitVarInsn(ALOAD, plocals[i]);
+                mv.visitJumpInsn(IFNONNULL, next);
+            }
+            mv.visitVarInsn(ALOAD, causeLocal);
+            mv.visitTypeInsn(INSTANCEOF, Type.getInternalName(params[i + 1].getType()));
+            mv.visitJumpInsn(IFEQ, next);
+            mv.visitVarInsn(ALOAD, causeLocal);
+            mv.visitVarInsn(ASTORE, plocals[i]);
+            mv.visitLabel(next);
+        }
+        mv.visitIincInsn(indexLocal, 1);
+        mv.visitJumpInsn(GOTO, loop);
+        mv.visitLabel(end);
+        return local;
+    }
+
     private static Object filterFromAnnotation(Class<? extends Annotation> cls) {
         Object filter;
         if ((filter = SubtypeFilter.valueOf(cls)) != null)
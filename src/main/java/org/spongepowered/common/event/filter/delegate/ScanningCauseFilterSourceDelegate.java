@@ -0,0 +1,143 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.filter.delegate;
+
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ARETURN;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.IFNE;
+import static org.objectweb.asm.Opcodes.IFNULL;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.event.cause.Cause;
+
+import java.lang.reflect.Parameter;
+
+/**
+ * A cause filter selecting the first or last cause of the parameter type.
+ * Several of these on one listener can share a single pass over the cause,
+ * see {@link #writeFromScan}.
+ */
+public abstract class ScanningCauseFilterSourceDelegate extends CauseFilterSourceDelegate {
+
+    private final Class<?>[] typeFilter;
+    private final boolean inverse;
+
+    protected ScanningCauseFilterSourceDelegate(Class<?>[] typeFilter, boolean inverse) {
+        this.typeFilter = typeFilter;
+        this.inverse = inverse;
+    }
+
+    /**
+     * Gets whether the last matching cause is selected instead of the first.
+     *
+     * @return Whether the last cause is selected
+     */
+    public abstract boolean selectsLast();
+
+    @Override
+    protected void insertCauseCall(MethodVisitor mv, Parameter param, Class<?> targetType) {
+        mv.visitLdcInsn(Type.getType(targetType));
+        mv.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(Cause.class), selectsLast() ? "last" : "first",
+                "(Ljava/lang/Class;)Ljava/util/Optional;", false);
+    }
+
+    @Override
+    protected void insertTransform(MethodVisitor mv, Parameter param, Class<?> targetType, int local) {
+        mv.visitVarInsn(ALOAD, local);
+        Label failure = new Label();
+        Label success = new Label();
+
+        mv.visitMethodInsn(INVOKEVIRTUAL, "java/util/Optional", "isPresent", "()Z", false);
+        mv.visitJumpInsn(IFEQ, failure);
+
+        mv.visitVarInsn(ALOAD, local);
+        mv.visitMethodInsn(INVOKEVIRTUAL, "java/util/Optional", "get", "()Ljava/lang/Object;", false);
+
+        mv.visitVarInsn(ASTORE, local);
+        insertTypeChecks(mv, targetType, local, failure, success);
+    }
+
+    /**
+     * Writes the checks for a parameter whose cause was already found by a
+     * shared pass over the cause.
+     *
+     * @param mv The method visitor
+     * @param param The parameter
+     * @param local The local holding the matched cause, or null
+     */
+    public void writeFromScan(MethodVisitor mv, Parameter param, int local) {
+        Label failure = new Label();
+        Label success = new Label();
+
+        mv.visitVarInsn(ALOAD, local);
+        mv.visitJumpInsn(IFNULL, failure);
+        insertTypeChecks(mv, param.getType(), local, failure, success);
+    }
+
+    private void insertTypeChecks(MethodVisitor mv, Class<?> targetType, int local, Label failure, Label success) {
+        mv.visitVarInsn(ALOAD, local);
+
+        mv.visitTypeInsn(INSTANCEOF, Type.getInternalName(targetType));
+
+        if (this.typeFilter.length != 0) {
+            mv.visitJumpInsn(IFEQ, failure);
+            mv.visitVarInsn(ALOAD, local);
+            // For each type we do an instance check and jump to either failure or success if matched
+            for (int i = 0; i < this.typeFilter.length; i++) {
+                Class<?> filter = this.typeFilter[i];
+                if (i < this.typeFilter.length - 1) {
+                    mv.visitInsn(DUP);
+                }
+                mv.visitTypeInsn(INSTANCEOF, Type.getInternalName(filter));
+                if (this.inverse) {
+                    mv.visitJumpInsn(IFNE, failure);
+                } else {
+                    mv.visitJumpInsn(IFNE, success);
+                }
+            }
+            if (this.inverse) {
+                mv.visitJumpInsn(GOTO, success);
+            }
+            // If the annotation was not reversed then we fall into failure as no types were matched
+        } else {
+            mv.visitJumpInsn(IFNE, success);
+        }
+        mv.visitLabel(failure);
+        mv.visitInsn(ACONST_NULL);
+        mv.visitInsn(ARETURN);
+
+        mv.visitLabel(success);
+    }
+
+}
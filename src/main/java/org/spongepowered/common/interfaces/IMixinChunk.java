@@ -101,6 +101,19 @@ void getIntersectingEntities(Vector3d start, Vector3d direction, double distance
 
     void fill(ChunkPrimer primer);
 
+    /**
+     * Sets the states of all blocks in a section directly in its storage,
+     * creating the storage if needed. This performs no block updates, tile
+     * entity handling, lighting or client notification, which are left to
+     * the caller.
+     *
+     * @param sectionY The y index of the section
+     * @param states The new states, indexed by {@code y << 8 | z << 4 | x},
+     *     null entries are left unchanged
+     * @return Whether any block state was changed
+     */
+    boolean setSectionBlockStates(int sectionY, IBlockState[] states);
+
     boolean isSpawning();
 
     void setIsSpawning(boolean spawning);
@@ -120,4 +133,14 @@ void getIntersectingEntities(Vector3d start, Vector3d direction, double distance
     CopyOnWriteArrayList<Short> getQueuedLightingUpdates(EnumSkyBlock type);
 
     void markChunkDirty();
+
+    /**
+     * Gets the last world tick an item entity in this chunk moved into a new
+     * block or was spawned.
+     *
+     * @return The world tick of the last item activity
+     */
+    long getLastItemActivity();
+
+    void setLastItemActivity(long worldTick);
 }
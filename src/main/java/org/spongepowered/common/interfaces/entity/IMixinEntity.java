@@ -145,6 +145,14 @@ default void onJoinWorld() {
 
     void setActiveChunk(IMixinChunk chunk);
 
+    int getCreatureTypeMask();
+
+    void setCreatureTypeMask(int mask);
+
+    boolean isCountedInWorld();
+
+    void setCountedInWorld(boolean counted);
+
     boolean shouldTick();
 
     void setInvulnerable(boolean value);
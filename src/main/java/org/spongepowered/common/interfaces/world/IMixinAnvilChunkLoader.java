@@ -24,10 +24,15 @@
  */
 package org.spongepowered.common.interfaces.world;
 
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
+import javax.annotation.Nullable;
+
 public interface IMixinAnvilChunkLoader {
 
     // Forge method
@@ -35,4 +40,27 @@ public interface IMixinAnvilChunkLoader {
 
     Path getWorldDir();
 
+    /**
+     * Reads and data fixes the saved data of a chunk, including chunks still
+     * waiting to be written. Safe to call off the main thread.
+     *
+     * @param x The chunk x position
+     * @param z The chunk z position
+     * @return The chunk data, or null if the chunk was never saved
+     * @throws IOException If the region file could not be read
+     */
+    @Nullable NBTTagCompound readChunkData(int x, int z) throws IOException;
+
+    /**
+     * Builds a chunk, including its entities and tileentities, from data read
+     * by {@link #readChunkData}. Must be called on the main thread.
+     *
+     * @param world The world of the chunk
+     * @param x The chunk x position
+     * @param z The chunk z position
+     * @param compound The chunk data
+     * @return The chunk, or null if the data is invalid
+     */
+    @Nullable Chunk readChunkFromData(World world, int x, int z, NBTTagCompound compound);
+
 }
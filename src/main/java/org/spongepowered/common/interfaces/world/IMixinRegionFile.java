@@ -0,0 +1,54 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.interfaces.world;
+
+import java.io.File;
+import java.io.IOException;
+
+public interface IMixinRegionFile {
+
+    /**
+     * Writes already compressed chunk data to the region file. Unlike
+     * {@code RegionFile#write}, failures are rethrown instead of printed.
+     *
+     * @param x The x position of the chunk within the region
+     * @param z The z position of the chunk within the region
+     * @param data The zlib compressed chunk data
+     * @param length The length of the data
+     * @throws IOException If the data could not be written
+     */
+    void writeCompressed(int x, int z, byte[] data, int length) throws IOException;
+
+    File getFile();
+
+    // Reference counting, guarded by the RegionFileCache monitor, see RegionFileReferences
+
+    void retain();
+
+    int release();
+
+    boolean isRetained();
+
+}
@@ -28,6 +28,7 @@
 import com.flowpowered.math.vector.Vector3d;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.math.BlockPos;
@@ -45,9 +46,9 @@
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
+import org.spongepowered.common.world.light.SpongeLightingScheduler;
 
 import java.util.List;
-import java.util.concurrent.ExecutorService;
 
 import javax.annotation.Nullable;
 
@@ -99,7 +100,7 @@ default boolean forceSpawnEntity(Entity entity) {
 
     boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, Chunk chunk, List<Chunk> neighbors);
 
-    ExecutorService getLightingExecutor();
+    SpongeLightingScheduler getLightingExecutor();
 
     WorldTimingsHandler getTimingsHandler();
 
@@ -113,6 +114,17 @@ default boolean forceSpawnEntity(Entity entity) {
 
     void doChunkGC();
 
+    /**
+     * Gets the number of loaded entities counting towards the spawn limit of
+     * the given creature type, as maintained on entity add and removal.
+     *
+     * @param type The creature type
+     * @return The entity count
+     */
+    int getCreatureCount(EnumCreatureType type);
+
+    void adjustCreatureCounts(int mask, int delta);
+
     default WorldServer asMinecraftWorld() {
         return (WorldServer) this;
     }
@@ -29,6 +29,9 @@
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 public interface IMixinChunkProviderServer {
 
     boolean getForceChunkRequests();
@@ -39,9 +42,45 @@ public interface IMixinChunkProviderServer {
 
     void setForceChunkRequests(boolean flag);
 
+    void setChunkUnloadTimeBudget(double millis);
+
+    /**
+     * Gets the number of queued chunks that were ready to unload but had to
+     * wait for a later tick, as of the last tick.
+     *
+     * @return The unload backlog
+     */
+    int getChunkUnloadBacklog();
+
     @Nullable Chunk getLoadedChunkWithoutMarkingActive(int x, int z);
 
+    /**
+     * Gets a loaded chunk without marking it active, safe to call from threads
+     * other than the main thread.
+     *
+     * @param x The chunk x position
+     * @param z The chunk z position
+     * @return The chunk, or null if it is not loaded
+     */
+    @Nullable Chunk getLoadedChunkConcurrently(int x, int z);
+
     long getChunkUnloadDelay();
 
     WorldServer getWorld();
+
+    /**
+     * Loads a saved chunk without blocking the main thread. The chunk data is
+     * read and decoded off the main thread, the chunk is then built and added
+     * to the world on the main thread. Chunks that were never generated are
+     * not generated by this method.
+     *
+     * <p>Must be called from the main thread. Loads that are still reading
+     * when the server stops are dropped rather than added to the world from
+     * another thread, their futures complete exceptionally or not at all.</p>
+     *
+     * @param x The chunk x position
+     * @param z The chunk z position
+     * @return The loaded chunk, or empty if the chunk has not been generated
+     */
+    CompletableFuture<Optional<Chunk>> loadChunkAsync(int x, int z);
 }
@@ -113,6 +113,7 @@
 import org.spongepowered.common.data.util.DataQueries;
 import org.spongepowered.common.data.util.DataUtil;
 import org.spongepowered.common.data.util.NbtDataUtil;
+import org.spongepowered.common.entity.CreatureCounts;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.entity.SpongeEntityArchetypeBuilder;
 import org.spongepowered.common.entity.SpongeEntitySnapshotBuilder;
@@ -164,6 +165,8 @@ public abstract class MixinEntity implements IMixinEntity {
     private EntityType entityType = SpongeImpl.getRegistry().getTranslated(this.getClass(), EntityType.class);
     private boolean teleporting;
     private WeakReference<IMixinChunk> activeChunk = new WeakReference<>(null);
+    private int creatureTypeMask = -1;
+    private boolean countedInWorld;
     private net.minecraft.entity.Entity teleportVehicle;
     private float origWidth;
     private float origHeight;
@@ -1346,6 +1349,29 @@ public void setActiveChunk(@Nullable IMixinChunk chunk) {
         this.activeChunk = new WeakReference<IMixinChunk>(chunk);
     }
 
+    @Override
+    public int getCreatureTypeMask() {
+        if (this.creatureTypeMask == -1) {
+            this.creatureTypeMask = CreatureCounts.computeMask((net.minecraft.entity.Entity) (Object) this);
+        }
+        return this.creatureTypeMask;
+    }
+
+    @Override
+    public void setCreatureTypeMask(int mask) {
+        this.creatureTypeMask = mask;
+    }
+
+    @Override
+    public boolean isCountedInWorld() {
+        return this.countedInWorld;
+    }
+
+    @Override
+    public void setCountedInWorld(boolean counted) {
+        this.countedInWorld = counted;
+    }
+
     @Override
     public boolean shouldTick() {
         final IMixinChunk chunk = this.getActiveChunk();
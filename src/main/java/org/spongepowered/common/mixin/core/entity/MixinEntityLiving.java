@@ -61,6 +61,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.manipulator.mutable.entity.SpongeAgentData;
+import org.spongepowered.common.entity.CreatureCounts;
 import org.spongepowered.common.data.value.mutable.SpongeValue;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
@@ -147,6 +148,14 @@ public void callLeashEvent(EntityPlayer playerIn, EnumHand hand, CallbackInfoRet
         }
     }
 
+    // Every write to persistenceRequired can move the entity between creature counts
+    @Inject(method = {"enablePersistence", "updateEquipmentIfNeeded", "readEntityFromNBT"},
+            at = @At(value = "FIELD", target = "Lnet/minecraft/entity/EntityLiving;persistenceRequired:Z", opcode = Opcodes.PUTFIELD,
+                    shift = At.Shift.AFTER))
+    private void onSetPersistenceRequired(CallbackInfo ci) {
+        CreatureCounts.refresh((EntityLiving) (Object) this);
+    }
+
     @Inject(method = "clearLeashed", at = @At(value = "FIELD", target = "Lnet/minecraft/entity/EntityLiving;isLeashed:Z", opcode = Opcodes.PUTFIELD), cancellable = true)
     public void callUnleashEvent(boolean sendPacket, boolean dropLead, CallbackInfo ci) {
         net.minecraft.entity.Entity entity = getLeashHolder();
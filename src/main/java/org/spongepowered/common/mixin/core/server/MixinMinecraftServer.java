@@ -110,6 +110,7 @@
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.common.world.light.SpongeLightingScheduler;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
 import java.net.InetSocketAddress;
@@ -318,19 +319,18 @@ public void shutdown(Text kickMessage) {
     public void onServerStopping(CallbackInfo ci) {
         ((MinecraftServer) (Object) this).getPlayerProfileCache().save();
 
-        if (this.worlds != null && SpongeImpl.getGlobalConfig().getConfig().getModules().useOptimizations() &&
+        if (SpongeImpl.getGlobalConfig().getConfig().getModules().useOptimizations() &&
                 SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useAsyncLighting()) {
-            for (WorldServer world : this.worlds) {
-                ((IMixinWorldServer) world).getLightingExecutor().shutdown();
-            }
-
-            for (WorldServer world : this.worlds) {
+            // All worlds share one scheduler, so it is shut down once rather than per world
+            final SpongeLightingScheduler lightingScheduler = SpongeLightingScheduler.getInstanceIfPresent();
+            if (lightingScheduler != null) {
+                lightingScheduler.shutdown();
                 try {
-                    ((IMixinWorldServer) world).getLightingExecutor().awaitTermination(1, TimeUnit.SECONDS);
+                    lightingScheduler.awaitTermination(1, TimeUnit.SECONDS);
                 } catch (InterruptedException e) {
                     e.printStackTrace();
                 } finally {
-                    ((IMixinWorldServer) world).getLightingExecutor().shutdownNow();
+                    lightingScheduler.shutdownNow();
                 }
             }
         }
@@ -95,6 +95,7 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.block.BlockUtil;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.event.EventListenerFlags;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.PhaseData;
@@ -139,9 +140,11 @@ public abstract class MixinChunk implements Chunk, IMixinChunk, IMixinCachable {
     private boolean isSpawning = false;
     private net.minecraft.world.chunk.Chunk[] neighbors = new net.minecraft.world.chunk.Chunk[4];
     private long cacheKey;
+    private long lastItemActivity = Long.MIN_VALUE;
     private static final Direction[] CARDINAL_DIRECTIONS = new Direction[] {Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST};
 
     private static final Vector3i BIOME_SIZE = new Vector3i(SpongeChunkLayout.CHUNK_SIZE.getX(), 1, SpongeChunkLayout.CHUNK_SIZE.getZ());
+    private static final int COLLIDE_ENTITY_EVENT = EventListenerFlags.getId(CollideEntityEvent.class);
     private Vector3i chunkPos;
     private Vector3i blockMin;
     private Vector3i blockMax;
@@ -260,6 +263,16 @@ private void onChunkRemoveEntityAtIndex(Entity entityIn, int index, CallbackInfo
         ((IMixinEntity) entityIn).setActiveChunk(null);
     }
 
+    @Override
+    public long getLastItemActivity() {
+        return this.lastItemActivity;
+    }
+
+    @Override
+    public void setLastItemActivity(long worldTick) {
+        this.lastItemActivity = worldTick;
+    }
+
     @Redirect(method = "removeTileEntity", at = @At(value = "INVOKE", target = "Lnet/minecraft/tileentity/TileEntity;invalidate()V"))
     private void onChunkRemoveTileEntity(TileEntity tileEntityIn) {
         ((IMixinTileEntity) tileEntityIn).setActiveChunk(null);
@@ -519,8 +532,16 @@ public void onGetEntitiesWithinAABBForEntity(Entity entityIn, AxisAlignedBB aabb
             return;
         }
 
-        CollideEntityEvent event = SpongeCommonEventFactory.callCollideEntityEvent(this.world, entityIn, listToFill);
         final PhaseData peek = PhaseTracker.getInstance().getCurrentPhaseData();
+        if (!EventListenerFlags.hasListeners(COLLIDE_ENTITY_EVENT)) {
+            // The event is skipped, but collisions without a known source are still cleared while ticking
+            if (peek.state.isTicking() && !SpongeCommonEventFactory.hasCollideEntitySource(entityIn)) {
+                listToFill.clear();
+            }
+            return;
+        }
+
+        CollideEntityEvent event = SpongeCommonEventFactory.callCollideEntityEvent(this.world, entityIn, listToFill);
 
         if (event == null || event.isCancelled()) {
             if (event == null && !peek.state.isTicking()) {
@@ -542,8 +563,16 @@ public void onGetEntitiesOfTypeWithinAAAB(Class<? extends Entity> entityClass, A
             return;
         }
 
-        CollideEntityEvent event = SpongeCommonEventFactory.callCollideEntityEvent(this.world, null, listToFill);
         final PhaseData peek = PhaseTracker.getInstance().getCurrentPhaseData();
+        if (!EventListenerFlags.hasListeners(COLLIDE_ENTITY_EVENT)) {
+            // The event is skipped, but collisions without a known source are still cleared while ticking
+            if (peek.state.isTicking() && !SpongeCommonEventFactory.hasCollideEntitySource(null)) {
+                listToFill.clear();
+            }
+            return;
+        }
+
+        CollideEntityEvent event = SpongeCommonEventFactory.callCollideEntityEvent(this.world, null, listToFill);
 
         if (event == null || event.isCancelled()) {
             if (event == null && !peek.state.isTicking()) {
@@ -1250,6 +1279,34 @@ public void fill(ChunkPrimer primer) {
         }
     }
 
+    @Override
+    public boolean setSectionBlockStates(int sectionY, IBlockState[] states) {
+        ExtendedBlockStorage storage = this.storageArrays[sectionY];
+        boolean changed = false;
+        for (int index = 0; index < states.length; index++) {
+            final IBlockState state = states[index];
+            if (state == null) {
+                continue;
+            }
+            final int x = index & 15;
+            final int y = index >> 8;
+            final int z = index >> 4 & 15;
+            if (storage == net.minecraft.world.chunk.Chunk.NULL_BLOCK_STORAGE) {
+                if (state.getBlock() == Blocks.AIR) {
+                    continue;
+                }
+                storage = this.storageArrays[sectionY] = new ExtendedBlockStorage(sectionY << 4, this.world.provider.hasSkyLight());
+            }
+            if (storage.get(x, y, z) != state) {
+                storage.set(x, y, z, state);
+                // Recalculated lazily, like in setBlockState
+                this.precipitationHeightMap[z << 4 | x] = -999;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
@@ -64,6 +64,7 @@
 import org.spongepowered.common.event.tracking.PhaseData;
 import org.spongepowered.common.interfaces.world.IMixinExplosion;
 import org.spongepowered.common.interfaces.world.IMixinLocation;
+import org.spongepowered.common.world.ExplosionCache;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -168,7 +169,13 @@ public void onConstructed(net.minecraft.world.World world, Entity entity, double
     @Overwrite
     public void doExplosionA() {
         // Sponge Start - If the explosion should not break blocks, don't bother calculating it
-        if (this.shouldBreakBlocks) {
+        final ExplosionCache cache = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useOptimizedExplosions()
+                                     ? ExplosionCache.get(this.world)
+                                     : null;
+        if (this.shouldBreakBlocks && cache != null) {
+            cache.collectAffectedBlocks((net.minecraft.world.Explosion) (Object) this, this.world, this.exploder, this.x, this.y, this.z,
+                    this.size, this.affectedBlockPositions);
+        } else if (this.shouldBreakBlocks) {
             // Sponge End
             Set<BlockPos> set = Sets.<BlockPos>newHashSet();
             int i = 16;
@@ -281,7 +288,10 @@ public void doExplosionA() {
                         d5 = d5 / d13;
                         d7 = d7 / d13;
                         d9 = d9 / d13;
-                        double d14 = (double) this.world.getBlockDensity(vec3d, entity.getEntityBoundingBox());
+                        // Sponge - use the explosion cache if enabled
+                        double d14 = (double) (cache != null
+                                               ? cache.getBlockDensity(this.world, vec3d, entity.getEntityBoundingBox())
+                                               : this.world.getBlockDensity(vec3d, entity.getEntityBoundingBox()));
                         double d10 = (1.0D - d12) * d14;
                         entity.attackEntityFrom(
                                 DamageSource.causeExplosionDamage((net.minecraft.world.Explosion) (Object) this), (float) ((int) ((d10 * d10 + d10) / 2.0D * 7.0D * (double) f3 + 1.0D)));
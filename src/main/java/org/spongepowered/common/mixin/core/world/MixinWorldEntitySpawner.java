@@ -56,6 +56,7 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.config.type.GeneralConfigBase;
+import org.spongepowered.common.entity.EntityConstructors;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
@@ -192,7 +193,7 @@ public int findChunksForSpawning(WorldServer worldServerIn, boolean spawnHostile
                 }
 
                 if ((!enumCreatureType.getPeacefulCreature() || spawnPeacefulMobs) && (enumCreatureType.getPeacefulCreature() || spawnHostileMobs)) {
-                    int entityCount = SpongeImplHooks.countEntities(worldServerIn, enumCreatureType, true);
+                    int entityCount = spongeWorld.getCreatureCount(enumCreatureType);
                     int maxCount = limit * chunkSpawnCandidates / MOB_SPAWN_COUNT_DIV;
                     if (entityCount > maxCount) {
                         continue labelOuterLoop;
@@ -262,8 +263,7 @@ public int findChunksForSpawning(WorldServer worldServerIn, boolean spawnHostile
                                             EntityLiving entityliving;
 
                                             try {
-                                                entityliving =
-                                                    spawnListEntry.entityClass.getConstructor(new Class<?>[]{World.class}).newInstance(worldServerIn);
+                                                entityliving = EntityConstructors.create(spawnListEntry.entityClass, worldServerIn);
                                             } catch (Exception exception) {
                                                 exception.printStackTrace();
                                                 continue labelOuterLoop;
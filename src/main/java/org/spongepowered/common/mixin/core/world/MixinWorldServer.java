@@ -40,6 +40,7 @@
 import net.minecraft.block.ITileEntityProvider;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.crash.CrashReportCategory;
+import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.entity.effect.EntityLightningBolt;
 import net.minecraft.entity.passive.EntitySkeletonHorse;
 import net.minecraft.entity.player.EntityPlayer;
@@ -156,6 +157,7 @@
 import org.spongepowered.common.effect.particle.SpongeParticleHelper;
 import org.spongepowered.common.effect.record.SpongeRecordType;
 import org.spongepowered.common.effect.sound.SoundEffectHelper;
+import org.spongepowered.common.entity.CreatureCounts;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.IPhaseState;
@@ -245,6 +247,7 @@ public abstract class MixinWorldServer extends MixinWorld implements IMixinWorld
     private boolean weatherIceAndSnowEnabled = true;
     private int dimensionId;
     private IMixinChunkProviderServer mixinChunkProviderServer;
+    private final int[] creatureCounts = CreatureCounts.create();
 
     @Shadow @Final private MinecraftServer mcServer;
     @Shadow @Final private Set<NextTickListEntry> pendingTickListEntriesHashSet;
@@ -415,6 +418,7 @@ public void setActiveConfig(SpongeConfig<? extends GeneralConfigBase> config) {
         if (this.getChunkProvider() != null) {
             final int maxChunkUnloads = this.activeConfig.getConfig().getWorld().getMaxChunkUnloads();
             this.mixinChunkProviderServer.setMaxChunkUnloads(maxChunkUnloads < 1 ? 1 : maxChunkUnloads);
+            this.mixinChunkProviderServer.setChunkUnloadTimeBudget(this.activeConfig.getConfig().getWorld().getChunkUnloadTimeBudget());
             this.mixinChunkProviderServer.setDenyChunkRequests(this.activeConfig.getConfig().getWorld().getDenyChunkRequests());
             for (net.minecraft.entity.Entity entity : this.loadedEntityList) {
                 if (entity instanceof IModData_Activation) {
@@ -1500,6 +1504,34 @@ public void updateRotation(net.minecraft.entity.Entity entityIn) {
         this.rotationUpdates.remove(entityIn);
     }
 
+    @Inject(method = "onEntityAdded", at = @At("HEAD"))
+    private void onEntityAddedCount(net.minecraft.entity.Entity entity, CallbackInfo ci) {
+        final IMixinEntity mixinEntity = (IMixinEntity) entity;
+        if (!mixinEntity.isCountedInWorld()) {
+            mixinEntity.setCountedInWorld(true);
+            CreatureCounts.adjust(this.creatureCounts, mixinEntity.getCreatureTypeMask(), 1);
+        }
+    }
+
+    @Inject(method = "onEntityRemoved", at = @At("HEAD"))
+    private void onEntityRemovedCount(net.minecraft.entity.Entity entity, CallbackInfo ci) {
+        final IMixinEntity mixinEntity = (IMixinEntity) entity;
+        if (mixinEntity.isCountedInWorld()) {
+            mixinEntity.setCountedInWorld(false);
+            CreatureCounts.adjust(this.creatureCounts, mixinEntity.getCreatureTypeMask(), -1);
+        }
+    }
+
+    @Override
+    public int getCreatureCount(EnumCreatureType type) {
+        return this.creatureCounts[type.ordinal()];
+    }
+
+    @Override
+    public void adjustCreatureCounts(int mask, int delta) {
+        CreatureCounts.adjust(this.creatureCounts, mask, delta);
+    }
+
     @Override
     public void onSpongeEntityAdded(net.minecraft.entity.Entity entity) {
         this.onEntityAdded(entity);
@@ -29,9 +29,11 @@
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.item.EntityMinecart;
+import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.datafix.FixTypes;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
@@ -68,18 +70,25 @@
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
 import org.spongepowered.common.util.QueuedChunk;
+import org.spongepowered.common.world.storage.ChunkSavePipeline;
 
+import java.io.DataInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
+import javax.annotation.Nullable;
+
 @Mixin(AnvilChunkLoader.class)
 @Implements(@Interface(iface = IMixinAnvilChunkLoader.class, prefix = "loader$"))
 public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
 
     private ConcurrentLinkedQueue<QueuedChunk> queue = new ConcurrentLinkedQueue<>();
     private final Object lock = new Object();
+    private final boolean useSavePipeline = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useChunkSavePipeline();
+    private int pipelinedSaves;
 
     private static final String ENTITY_LIST_CREATE_FROM_NBT =
             "Lnet/minecraft/entity/EntityList;createEntityFromNBT(Lnet/minecraft/nbt/NBTTagCompound;Lnet/minecraft/world/World;)Lnet/minecraft/entity/Entity;";
@@ -91,6 +100,7 @@ public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
 
     @Shadow
     public abstract void writeChunkData(ChunkPos pos, NBTTagCompound compound);
+    @Shadow @Nullable protected abstract Chunk checkedReadChunkFromNBT(World worldIn, int x, int z, NBTTagCompound compound);
 
     @Inject(method = "writeChunkToNBT", at = @At(value = "RETURN"))
     public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World worldIn, NBTTagCompound compound, CallbackInfo ci) {
@@ -235,6 +245,12 @@ protected void addChunkToPending(ChunkPos pos, NBTTagCompound compound) {
         synchronized (this.lock) {
             this.chunksToSave.put(pos, compound);
         }
+        // Sponge start - Use the save pipeline if enabled
+        if (this.useSavePipeline) {
+            this.addChunkToPipeline(pos, compound);
+            return;
+        }
+        // Sponge end
         this.queue.add(new QueuedChunk(pos, compound));
 
         ThreadedFileIOBase.getThreadedIOInstance().queueIO((AnvilChunkLoader) (Object) this);
@@ -302,9 +318,74 @@ public boolean writeNextIO() {
         }
     }
 
+    private void addChunkToPipeline(ChunkPos pos, NBTTagCompound compound) {
+        synchronized (this.lock) {
+            this.pipelinedSaves++;
+        }
+        ChunkSavePipeline.getInstance().save(this.chunkSaveLocation, pos, compound, () -> {
+            synchronized (this.lock) {
+                // Skip the write if a newer version of the chunk is pending
+                return this.chunksToSave.get(pos) == compound;
+            }
+        }, () -> {
+            synchronized (this.lock) {
+                if (this.chunksToSave.get(pos) == compound) {
+                    this.chunksToSave.remove(pos);
+                }
+                if (--this.pipelinedSaves == 0) {
+                    this.lock.notifyAll();
+                }
+            }
+        });
+    }
+
+    @Inject(method = "flush", at = @At("HEAD"))
+    private void onFlush(CallbackInfo ci) {
+        if (!this.useSavePipeline) {
+            return;
+        }
+        synchronized (this.lock) {
+            while (this.pipelinedSaves > 0) {
+                try {
+                    this.lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
     @Override
     public Path getWorldDir() {
         return this.chunkSaveLocation.toPath();
     }
 
+    @Nullable
+    @Override
+    public NBTTagCompound readChunkData(int x, int z) throws IOException {
+        synchronized (this.lock) {
+            final NBTTagCompound pending = this.chunksToSave.get(new ChunkPos(x, z));
+            if (pending != null) {
+                return pending;
+            }
+        }
+
+        final DataInputStream stream = RegionFileCache.getChunkInputStream(this.chunkSaveLocation, x, z);
+        if (stream == null) {
+            return null;
+        }
+        try {
+            return SpongeImpl.getDataFixer().process(FixTypes.CHUNK, CompressedStreamTools.read(stream));
+        } finally {
+            stream.close();
+        }
+    }
+
+    @Nullable
+    @Override
+    public Chunk readChunkFromData(World world, int x, int z, NBTTagCompound compound) {
+        return this.checkedReadChunkFromNBT(world, x, z, compound);
+    }
+
 }
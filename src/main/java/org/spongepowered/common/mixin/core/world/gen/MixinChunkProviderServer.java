@@ -24,9 +24,19 @@
  */
 package org.spongepowered.common.mixin.core.world.gen;
 
+import static com.google.common.base.Preconditions.checkState;
+
+import co.aikar.timings.TimingHistory;
 import com.flowpowered.math.vector.Vector3i;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.gen.IChunkGenerator;
@@ -50,6 +60,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.config.SpongeConfig;
+import org.spongepowered.common.config.category.ChunkPrefetchCategory;
 import org.spongepowered.common.config.type.GeneralConfigBase;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.IPhaseState;
@@ -66,11 +77,17 @@
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.SpongeEmptyChunk;
 import org.spongepowered.common.world.storage.SpongeChunkDataStream;
+import org.spongepowered.common.world.storage.SpongeChunkIOExecutor;
 import org.spongepowered.common.world.storage.WorldStorageUtil;
 
-import java.util.Iterator;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import javax.annotation.Nullable;
 
 @Mixin(ChunkProviderServer.class)
 public abstract class MixinChunkProviderServer implements WorldStorage, IMixinChunkProviderServer {
@@ -80,6 +97,11 @@ public abstract class MixinChunkProviderServer implements WorldStorage, IMixinCh
     private boolean forceChunkRequests = false;
     private long chunkUnloadDelay = 15000;
     private int maxChunkUnloads = 100;
+    private long chunkUnloadTimeBudget;
+    private int chunkUnloadBacklog;
+    private static final int PREFETCH_MISSING_RESET_TICKS = 1200;
+    private final Long2ObjectMap<CompletableFuture<Optional<Chunk>>> pendingAsyncLoads = new Long2ObjectOpenHashMap<>();
+    private final LongSet prefetchMissingChunks = new LongOpenHashSet();
 
     @Shadow @Final public WorldServer world;
     @Shadow @Final private IChunkLoader chunkLoader;
@@ -102,6 +124,7 @@ private void onConstruct(WorldServer worldObjIn, IChunkLoader chunkLoaderIn, ICh
         this.denyChunkRequests = spongeConfig.getConfig().getWorld().getDenyChunkRequests();
         this.chunkUnloadDelay = spongeConfig.getConfig().getWorld().getChunkUnloadDelay() * 1000;
         this.maxChunkUnloads = spongeConfig.getConfig().getWorld().getMaxChunkUnloads();
+        this.setChunkUnloadTimeBudget(spongeConfig.getConfig().getWorld().getChunkUnloadTimeBudget());
     }
 
     @Override
@@ -163,6 +186,106 @@ private Chunk loadChunkForce(int x, int z) {
         return chunk;
     }
 
+    @Override
+    public CompletableFuture<Optional<Chunk>> loadChunkAsync(int x, int z) {
+        // pendingAsyncLoads and the chunk map are only safe to use from the main thread
+        checkState(SpongeImpl.getServer().isCallingFromMinecraftThread(), "Chunks can only be loaded asynchronously from the main thread");
+        final Chunk loadedChunk = this.getLoadedChunkWithoutMarkingActive(x, z);
+        if (loadedChunk != null) {
+            return CompletableFuture.completedFuture(Optional.of(loadedChunk));
+        }
+        if (!(this.chunkLoader instanceof IMixinAnvilChunkLoader)) {
+            return CompletableFuture.completedFuture(Optional.ofNullable(this.loadChunk(x, z)));
+        }
+
+        final long key = ChunkPos.asLong(x, z);
+        final CompletableFuture<Optional<Chunk>> pending = this.pendingAsyncLoads.get(key);
+        if (pending != null) {
+            return pending;
+        }
+
+        final IMixinAnvilChunkLoader loader = (IMixinAnvilChunkLoader) this.chunkLoader;
+        final CompletableFuture<Optional<Chunk>> future = CompletableFuture.supplyAsync(() -> {
+            try {
+                return loader.readChunkData(x, z);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, SpongeChunkIOExecutor.getIOExecutor()).handleAsync((compound, throwable) -> {
+            this.pendingAsyncLoads.remove(key);
+            if (throwable != null) {
+                SpongeImpl.getLogger().error("Couldn't load chunk {}, {} in {}", x, z, this.world.getWorldInfo().getWorldName(), throwable);
+                return Optional.empty();
+            }
+            return Optional.ofNullable(this.finishAsyncLoad(x, z, compound));
+        }, SpongeChunkIOExecutor.getMainThreadExecutor());
+        if (!future.isDone()) {
+            this.pendingAsyncLoads.put(key, future);
+        }
+        return future;
+    }
+
+    @Nullable
+    private Chunk finishAsyncLoad(int x, int z, @Nullable NBTTagCompound compound) {
+        // The chunk may have been loaded synchronously in the meantime
+        Chunk chunk = this.getLoadedChunkWithoutMarkingActive(x, z);
+        if (chunk != null || compound == null) {
+            return chunk;
+        }
+
+        chunk = ((IMixinAnvilChunkLoader) this.chunkLoader).readChunkFromData(this.world, x, z, compound);
+        if (chunk == null) {
+            return null;
+        }
+        // See loadChunkFromFile and loadChunkForce
+        chunk.setLastSaveTime(this.world.getTotalWorldTime());
+        this.chunkGenerator.recreateStructures(chunk, x, z);
+        this.id2ChunkMap.put(ChunkPos.asLong(x, z), chunk);
+        chunk.onLoad();
+        chunk.populate((ChunkProviderServer) (Object) this, this.chunkGenerator);
+        return chunk;
+    }
+
+    /**
+     * Requests chunks ahead of moving players so they are already loaded by
+     * the time the player map needs them.
+     */
+    private void prefetchChunks(ChunkPrefetchCategory config) {
+        if (this.world.getTotalWorldTime() % PREFETCH_MISSING_RESET_TICKS == 0) {
+            this.prefetchMissingChunks.clear();
+        }
+
+        final int radius = this.world.getMinecraftServer().getPlayerList().getViewDistance();
+        final double minSpeedSquared = config.getMinSpeed() * config.getMinSpeed();
+        int requests = 0;
+        for (EntityPlayer player : this.world.playerEntities) {
+            final double motionX = player.posX - player.lastTickPosX;
+            final double motionZ = player.posZ - player.lastTickPosZ;
+            if (motionX * motionX + motionZ * motionZ < minSpeedSquared) {
+                continue;
+            }
+
+            final int aheadChunkX = MathHelper.floor(player.posX + motionX * config.getLookaheadTicks()) >> 4;
+            final int aheadChunkZ = MathHelper.floor(player.posZ + motionZ * config.getLookaheadTicks()) >> 4;
+            for (int x = aheadChunkX - radius; x <= aheadChunkX + radius; x++) {
+                for (int z = aheadChunkZ - radius; z <= aheadChunkZ + radius; z++) {
+                    final long key = ChunkPos.asLong(x, z);
+                    if (this.id2ChunkMap.containsKey(key) || this.pendingAsyncLoads.containsKey(key) || this.prefetchMissingChunks.contains(key)) {
+                        continue;
+                    }
+                    if (requests++ >= config.getMaxRequestsPerTick()) {
+                        return;
+                    }
+                    this.loadChunkAsync(x, z).thenAccept(chunk -> {
+                        if (!chunk.isPresent()) {
+                            this.prefetchMissingChunks.add(key);
+                        }
+                    });
+                }
+            }
+        }
+    }
+
     @Redirect(method = "provideChunk", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/gen/ChunkProviderServer;loadChunk(II)Lnet/minecraft/world/chunk/Chunk;"))
     public Chunk onProvideChunkHead(ChunkProviderServer chunkProviderServer, int x, int z) {
         if (!this.denyChunkRequests) {
@@ -248,6 +371,16 @@ public void setMaxChunkUnloads(int maxUnloads) {
         this.maxChunkUnloads = maxUnloads;
     }
 
+    @Override
+    public void setChunkUnloadTimeBudget(double millis) {
+        this.chunkUnloadTimeBudget = (long) (millis * 1000000);
+    }
+
+    @Override
+    public int getChunkUnloadBacklog() {
+        return this.chunkUnloadBacklog;
+    }
+
     @Override
     public void setForceChunkRequests(boolean flag) {
         this.forceChunkRequests = flag;
@@ -274,29 +407,55 @@ public long getChunkUnloadDelay() {
     @Overwrite
     public boolean tick()
     {
+        // Sponge start - prefetch chunks ahead of players
+        final ChunkPrefetchCategory prefetchConfig = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getChunkPrefetchCategory();
+        if (prefetchConfig.isEnabled()) {
+            this.prefetchChunks(prefetchConfig);
+        }
+        // Sponge end
         if (!this.world.disableLevelSaving)
         {
             ((IMixinWorldServer) this.world).getTimingsHandler().doChunkUnload.startTiming();
-            Iterator<Chunk> iterator = this.id2ChunkMap.values().iterator();
-            int chunksUnloaded = 0;
+            // Sponge start - collect the unloadable chunks first, with a time budget
+            // the chunks furthest from players are unloaded first
+            final boolean budgeted = this.chunkUnloadTimeBudget > 0;
+            final List<Chunk> unloadable = new ArrayList<>();
             long now = System.currentTimeMillis();
-            while (chunksUnloaded < this.maxChunkUnloads && iterator.hasNext()) {
-                Chunk chunk = iterator.next();
+            for (Chunk chunk : this.id2ChunkMap.values()) {
                 IMixinChunk spongeChunk = (IMixinChunk) chunk;
                 if (chunk != null && chunk.unloadQueued && !spongeChunk.isPersistedChunk()) {
-                    if (this.getChunkUnloadDelay() > 0) {
-                        if ((now - spongeChunk.getScheduledForUnload()) < this.chunkUnloadDelay) {
-                            continue;
-                        }
-                        spongeChunk.setScheduledForUnload(-1);
+                    if (this.getChunkUnloadDelay() > 0 && (now - spongeChunk.getScheduledForUnload()) < this.chunkUnloadDelay) {
+                        continue;
+                    }
+                    unloadable.add(chunk);
+                    if (!budgeted && unloadable.size() >= this.maxChunkUnloads) {
+                        break;
                     }
-                    chunk.onUnload();
-                    this.saveChunkData(chunk);
-                    this.saveChunkExtraData(chunk);
-                    iterator.remove();
-                    chunksUnloaded++;
                 }
             }
+            if (budgeted && unloadable.size() > 1) {
+                this.sortByPlayerDistance(unloadable);
+            }
+
+            final long deadline = System.nanoTime() + this.chunkUnloadTimeBudget;
+            int chunksUnloaded = 0;
+            for (Chunk chunk : unloadable) {
+                if (chunksUnloaded >= this.maxChunkUnloads || (budgeted && chunksUnloaded > 0 && System.nanoTime() >= deadline)) {
+                    break;
+                }
+                if (this.getChunkUnloadDelay() > 0) {
+                    ((IMixinChunk) chunk).setScheduledForUnload(-1);
+                }
+                chunk.onUnload();
+                this.saveChunkData(chunk);
+                this.saveChunkExtraData(chunk);
+                // Removed through the map so its cache stays consistent
+                this.id2ChunkMap.remove(ChunkPos.asLong(chunk.x, chunk.z));
+                chunksUnloaded++;
+            }
+            this.chunkUnloadBacklog = budgeted ? unloadable.size() - chunksUnloaded : 0;
+            TimingHistory.chunkUnloadBacklog += this.chunkUnloadBacklog;
+            // Sponge end
             ((IMixinWorldServer) this.world).getTimingsHandler().doChunkUnload.stopTiming();
         }
 
@@ -304,6 +463,21 @@ public boolean tick()
         return false;
     }
 
+    private void sortByPlayerDistance(List<Chunk> chunks) {
+        final List<EntityPlayer> players = this.world.playerEntities;
+        final Reference2LongOpenHashMap<Chunk> distances = new Reference2LongOpenHashMap<>(chunks.size());
+        for (Chunk chunk : chunks) {
+            long closest = Long.MAX_VALUE;
+            for (EntityPlayer player : players) {
+                final long dx = chunk.x - (MathHelper.floor(player.posX) >> 4);
+                final long dz = chunk.z - (MathHelper.floor(player.posZ) >> 4);
+                closest = Math.min(closest, dx * dx + dz * dz);
+            }
+            distances.put(chunk, closest);
+        }
+        chunks.sort((first, second) -> Long.compare(distances.getLong(second), distances.getLong(first)));
+    }
+
     // Copy of getLoadedChunk without marking chunk active.
     // This allows the chunk to unload if currently queued.
     @Override
@@ -313,6 +487,15 @@ public Chunk getLoadedChunkWithoutMarkingActive(int x, int z){
         return chunk;
     }
 
+    @Override
+    public Chunk getLoadedChunkConcurrently(int x, int z) {
+        final long key = ChunkPos.asLong(x, z);
+        if (this.id2ChunkMap instanceof CachedLong2ObjectMap) {
+            return (Chunk) ((CachedLong2ObjectMap) this.id2ChunkMap).getConcurrently(key);
+        }
+        return this.id2ChunkMap.get(key);
+    }
+
     @Inject(method = "canSave", at = @At("HEAD"), cancellable = true)
     public void onCanSave(CallbackInfoReturnable<Boolean> cir) {
         if (((WorldProperties)this.world.getWorldInfo()).getSerializationBehavior() == SerializationBehaviors.NONE) {
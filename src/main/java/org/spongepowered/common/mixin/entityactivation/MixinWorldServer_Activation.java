@@ -26,6 +26,7 @@
 
 import net.minecraft.world.WorldServer;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.mixin.core.world.MixinWorld;
 import org.spongepowered.common.mixin.plugin.entityactivation.EntityActivationRange;
 
@@ -34,7 +35,9 @@ public abstract class MixinWorldServer_Activation extends MixinWorld {
 
     @Override
     public void entityActivationCheck() {
+        ((IMixinWorldServer) this).getTimingsHandler().entityActivationCheck.startTiming();
         EntityActivationRange.activateEntities(((net.minecraft.world.World) (Object) this));
+        ((IMixinWorldServer) this).getTimingsHandler().entityActivationCheck.stopTiming();
     }
 
 }
@@ -25,6 +25,7 @@
 package org.spongepowered.common.mixin.entitycollisions;
 
 import com.google.common.base.Predicate;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.entity.player.EntityPlayer;
@@ -50,41 +51,88 @@ public class MixinChunk_Collisions {
 
     @Shadow @Final private World world;
 
-    @Inject(method = "getEntitiesWithinAABBForEntity",
-            at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false), cancellable = true)
-    public void onAddCollisionEntity(Entity entityIn, AxisAlignedBB aabb, List<Entity> listToFill, Predicate<? super Entity> predicate,
-            CallbackInfo ci) {
+    // The collision cap of the current query's source, resolved once at the start of each query
+    private int collisionCap = -1;
+    // The caps of enclosing queries, as predicates may query this chunk again
+    private final IntArrayList outerCollisionCaps = new IntArrayList();
+
+    @Inject(method = "getEntitiesWithinAABBForEntity", at = @At("HEAD"))
+    public void onGetEntitiesWithinAABBForEntityHead(Entity entityIn, AxisAlignedBB aabb, List<Entity> listToFill,
+            Predicate<? super Entity> predicate, CallbackInfo ci) {
+        this.outerCollisionCaps.add(this.collisionCap);
         // ignore players and entities with parts (ex. EnderDragon)
         if (this.world.isRemote || entityIn == null || entityIn instanceof EntityPlayer || entityIn.getParts() != null) {
+            this.collisionCap = -1;
             return;
         }
 
-        if (!allowEntityCollision(listToFill)) {
+        this.collisionCap = resolveCollisionCap();
+    }
+
+    @Inject(method = "getEntitiesWithinAABBForEntity", at = @At("RETURN"))
+    public void onGetEntitiesWithinAABBForEntityReturn(Entity entityIn, AxisAlignedBB aabb, List<Entity> listToFill,
+            Predicate<? super Entity> predicate, CallbackInfo ci) {
+        restoreCollisionCap();
+    }
+
+    @Inject(method = "getEntitiesWithinAABBForEntity",
+            at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false), cancellable = true)
+    public void onAddCollisionEntity(Entity entityIn, AxisAlignedBB aabb, List<Entity> listToFill, Predicate<? super Entity> predicate,
+            CallbackInfo ci) {
+        if (this.collisionCap >= 0 && listToFill.size() >= this.collisionCap) {
+            // Cancelling returns early, skipping the RETURN injection
+            restoreCollisionCap();
             ci.cancel();
         }
     }
 
-    @Inject(method = "getEntitiesOfTypeWithinAABB",
-            at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false), cancellable = true)
-    public <T extends Entity> void onAddCollisionEntity(Class<? extends T> entityClass, AxisAlignedBB aabb, List<T> listToFill,
+    @Inject(method = "getEntitiesOfTypeWithinAABB", at = @At("HEAD"))
+    public <T extends Entity> void onGetEntitiesOfTypeWithinAABBHead(Class<? extends T> entityClass, AxisAlignedBB aabb, List<T> listToFill,
             Predicate<? super T> p_177430_4_, CallbackInfo ci) {
+        this.outerCollisionCaps.add(this.collisionCap);
         // ignore player checks
         // ignore item check (ex. Hoppers)
         if (this.world.isRemote || EntityPlayer.class.isAssignableFrom(entityClass) || EntityItem.class == entityClass) {
+            this.collisionCap = -1;
             return;
         }
 
-        if (!allowEntityCollision(listToFill)) {
+        this.collisionCap = resolveCollisionCap();
+    }
+
+    @Inject(method = "getEntitiesOfTypeWithinAABB", at = @At("RETURN"))
+    public <T extends Entity> void onGetEntitiesOfTypeWithinAABBReturn(Class<? extends T> entityClass, AxisAlignedBB aabb, List<T> listToFill,
+            Predicate<? super T> p_177430_4_, CallbackInfo ci) {
+        restoreCollisionCap();
+    }
+
+    @Inject(method = "getEntitiesOfTypeWithinAABB",
+            at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false), cancellable = true)
+    public <T extends Entity> void onAddCollisionEntity(Class<? extends T> entityClass, AxisAlignedBB aabb, List<T> listToFill,
+            Predicate<? super T> p_177430_4_, CallbackInfo ci) {
+        if (this.collisionCap >= 0 && listToFill.size() >= this.collisionCap) {
+            // Cancelling returns early, skipping the RETURN injection
+            restoreCollisionCap();
             ci.cancel();
         }
     }
 
-    private <T extends Entity> boolean allowEntityCollision(List<T> listToFill) {
+    private void restoreCollisionCap() {
+        this.collisionCap = this.outerCollisionCaps.isEmpty() ? -1 : this.outerCollisionCaps.popInt();
+    }
+
+    /**
+     * Resolves the maximum amount of entities the current phase's source may
+     * collide with.
+     *
+     * @return The collision cap, or -1 if collisions are not capped
+     */
+    private int resolveCollisionCap() {
         if (this.world instanceof IMixinWorldServer) {
             IMixinWorldServer spongeWorld = (IMixinWorldServer) this.world;
             if (spongeWorld.isProcessingExplosion()) {
                 // allow explosions
-                return true;
+                return -1;
             }
 
             final PhaseContext<?> phaseContext = PhaseTracker.getInstance().getCurrentContext();
@@ -97,7 +145,7 @@ private <T extends Entity> boolean allowEntityCollision(List<T> listToFill) {
                     spongeBlock.requiresCollisionsCacheRefresh(false);
                 }
 
-                return !((spongeBlock.getMaxCollisions() >= 0) && (listToFill.size() >= spongeBlock.getMaxCollisions()));
+                return spongeBlock.getMaxCollisions();
             }
             IModData_Collisions spongeEntity = phaseContext.getSource(IModData_Collisions.class).orElse(null);
             if (spongeEntity != null) {
@@ -106,11 +154,10 @@ private <T extends Entity> boolean allowEntityCollision(List<T> listToFill) {
                     spongeEntity.requiresCollisionsCacheRefresh(false);
                 }
 
-                return !((spongeEntity.getMaxCollisions() >= 0) && (listToFill.size() >= spongeEntity.getMaxCollisions()));
+                return spongeEntity.getMaxCollisions();
             }
-            return true;
         }
 
-        return true;
+        return -1;
     }
 }
@@ -0,0 +1,69 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.entity;
+
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.util.math.MathHelper;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.interfaces.IMixinChunk;
+import org.spongepowered.common.interfaces.entity.IMixinEntity;
+
+@Mixin(EntityItem.class)
+public abstract class MixinEntityItem_Hopper_Sleeping {
+
+    private boolean activityTracked;
+    private int lastActivityX;
+    private int lastActivityY;
+    private int lastActivityZ;
+
+    /**
+     * Marks the chunk of this item as active whenever the item enters a new
+     * block, which wakes up hoppers sleeping in it.
+     */
+    @Inject(method = "onUpdate", at = @At("RETURN"))
+    private void onUpdateItemActivity(CallbackInfo ci) {
+        final EntityItem self = (EntityItem) (Object) this;
+        if (self.world.isRemote || self.isDead) {
+            return;
+        }
+        final int x = MathHelper.floor(self.posX);
+        final int y = MathHelper.floor(self.posY);
+        final int z = MathHelper.floor(self.posZ);
+        if (this.activityTracked && x == this.lastActivityX && y == this.lastActivityY && z == this.lastActivityZ) {
+            return;
+        }
+        this.activityTracked = true;
+        this.lastActivityX = x;
+        this.lastActivityY = y;
+        this.lastActivityZ = z;
+        final IMixinChunk chunk = ((IMixinEntity) self).getActiveChunk();
+        if (chunk != null) {
+            chunk.setLastItemActivity(self.world.getTotalWorldTime());
+        }
+    }
+}
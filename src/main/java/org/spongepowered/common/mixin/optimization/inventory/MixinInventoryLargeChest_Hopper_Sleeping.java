@@ -0,0 +1,53 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.inventory;
+
+import net.minecraft.inventory.InventoryLargeChest;
+import net.minecraft.world.ILockableContainer;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.common.interfaces.IMixinModificationTracked;
+
+@Mixin(InventoryLargeChest.class)
+public abstract class MixinInventoryLargeChest_Hopper_Sleeping implements IMixinModificationTracked {
+
+    @Shadow @Final private ILockableContainer upperChest;
+    @Shadow @Final private ILockableContainer lowerChest;
+
+    @Override
+    public int getModificationCount() {
+        // Every change to a large chest marks its halves dirty, so their sum changes as well
+        return ((IMixinModificationTracked) this.upperChest).getModificationCount()
+               + ((IMixinModificationTracked) this.lowerChest).getModificationCount();
+    }
+
+    @Override
+    public boolean isModificationTrackingValid() {
+        return this.upperChest instanceof IMixinModificationTracked && this.lowerChest instanceof IMixinModificationTracked
+               && ((IMixinModificationTracked) this.upperChest).isModificationTrackingValid()
+               && ((IMixinModificationTracked) this.lowerChest).isModificationTrackingValid();
+    }
+}
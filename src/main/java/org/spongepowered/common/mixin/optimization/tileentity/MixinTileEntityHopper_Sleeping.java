@@ -0,0 +1,160 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.tileentity;
+
+import net.minecraft.block.BlockHopper;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.tileentity.TileEntityHopper;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.IMixinChunk;
+import org.spongepowered.common.interfaces.IMixinModificationTracked;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+
+import javax.annotation.Nullable;
+
+/**
+ * Lets a hopper that failed to move any items sleep until something it
+ * depends on changes, instead of scanning its source and destination again
+ * every tick.
+ *
+ * <p>A sleeping hopper only compares the modification counters of its own,
+ * source and destination inventories, and when it collects item entities,
+ * the item activity of the chunks below its collection area. Hoppers next to
+ * inventories that cannot be tracked, such as minecarts, never sleep.</p>
+ */
+@Mixin(TileEntityHopper.class)
+public abstract class MixinTileEntityHopper_Sleeping {
+
+    @Shadow public int transferCooldown;
+
+    @Shadow protected abstract IInventory getInventoryForHopperTransfer();
+
+    private boolean sleeping;
+    private long sleepStart;
+    private int sleepTicks;
+    private int maxSleepTicks;
+    private int ownModificationCount;
+    private boolean sleepEnabled;
+    @Nullable private IInventory sleepSource;
+    private int sourceModificationCount;
+    @Nullable private IInventory sleepDestination;
+    private int destinationModificationCount;
+
+    @Inject(method = "updateHopper", at = @At("HEAD"), cancellable = true)
+    private void onUpdateHopperSleeping(CallbackInfoReturnable<Boolean> cir) {
+        if (!this.sleeping) {
+            return;
+        }
+        if (this.shouldWake()) {
+            this.wake();
+            return;
+        }
+        cir.setReturnValue(false);
+    }
+
+    @Inject(method = "updateHopper", at = @At("RETURN"))
+    private void onUpdateHopperReturn(CallbackInfoReturnable<Boolean> cir) {
+        if (cir.getReturnValue() || this.transferCooldown > 0) {
+            return;
+        }
+        final TileEntityHopper self = (TileEntityHopper) (Object) this;
+        final World world = self.getWorld();
+        if (!(world instanceof WorldServer)) {
+            return;
+        }
+        final IInventory source = TileEntityHopper.getSourceInventory(self);
+        final IInventory destination = this.getInventoryForHopperTransfer();
+        if (!isTracked(source) || !isTracked(destination)) {
+            return;
+        }
+        this.sleeping = true;
+        this.sleepStart = world.getTotalWorldTime();
+        this.sleepTicks = 0;
+        this.maxSleepTicks = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getHopperSleepCategory().getMaxSleepTicks();
+        this.ownModificationCount = ((IMixinModificationTracked) self).getModificationCount();
+        this.sleepEnabled = BlockHopper.isEnabled(self.getBlockMetadata());
+        this.sleepSource = source;
+        this.sourceModificationCount = source == null ? 0 : ((IMixinModificationTracked) source).getModificationCount();
+        this.sleepDestination = destination;
+        this.destinationModificationCount = destination == null ? 0 : ((IMixinModificationTracked) destination).getModificationCount();
+    }
+
+    private boolean shouldWake() {
+        final TileEntityHopper self = (TileEntityHopper) (Object) this;
+        if (++this.sleepTicks >= this.maxSleepTicks) {
+            return true;
+        }
+        if (((IMixinModificationTracked) self).getModificationCount() != this.ownModificationCount
+                || BlockHopper.isEnabled(self.getBlockMetadata()) != this.sleepEnabled) {
+            return true;
+        }
+        if (hasChanged(this.sleepSource, this.sourceModificationCount) || hasChanged(this.sleepDestination, this.destinationModificationCount)) {
+            return true;
+        }
+        return this.sleepSource == null && this.hasItemActivity(self.getWorld(), self.getPos());
+    }
+
+    private void wake() {
+        this.sleeping = false;
+        this.sleepSource = null;
+        this.sleepDestination = null;
+    }
+
+    private boolean hasItemActivity(World world, BlockPos pos) {
+        // The collection area may reach into neighboring chunks for hoppers on a chunk edge
+        final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) world.getChunkProvider();
+        for (int chunkX = (pos.getX() - 1) >> 4; chunkX <= (pos.getX() + 1) >> 4; chunkX++) {
+            for (int chunkZ = (pos.getZ() - 1) >> 4; chunkZ <= (pos.getZ() + 1) >> 4; chunkZ++) {
+                final Chunk chunk = chunkProvider.getLoadedChunkWithoutMarkingActive(chunkX, chunkZ);
+                if (chunk != null && ((IMixinChunk) chunk).getLastItemActivity() > this.sleepStart) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isTracked(@Nullable IInventory inventory) {
+        return inventory == null
+               || inventory instanceof IMixinModificationTracked && ((IMixinModificationTracked) inventory).isModificationTrackingValid();
+    }
+
+    private static boolean hasChanged(@Nullable IInventory inventory, int modificationCount) {
+        if (inventory == null) {
+            return false;
+        }
+        final IMixinModificationTracked tracked = (IMixinModificationTracked) inventory;
+        return !tracked.isModificationTrackingValid() || tracked.getModificationCount() != modificationCount;
+    }
+}
@@ -44,12 +44,12 @@
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.world.light.SpongeLightingScheduler;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -62,9 +62,13 @@ public abstract class MixinChunk_Async_Lighting implements IMixinChunk {
     private CopyOnWriteArrayList<Short> queuedBlockLightingUpdates = new CopyOnWriteArrayList<>();
     private AtomicInteger pendingLightUpdates = new AtomicInteger();
     private long lightUpdateTime;
-    private ExecutorService lightExecutorService;
+    private SpongeLightingScheduler lightExecutorService;
     private static final List<Chunk> EMPTY_LIST = new ArrayList<>();
     private static final BlockPos DUMMY_POS = new BlockPos(0, 0, 0);
+    // Keys used to coalesce queued lighting tasks of this chunk
+    private static final long RECHECK_GAPS_TASK = 1L << 32;
+    private static final long CHECK_LIGHT_TASK = 2L << 32;
+    private static final long RELIGHT_BLOCK_TASK = 3L << 32;
 
     @Shadow @Final private World world;
     @Shadow @Final private int[] heightMap;
@@ -122,9 +126,9 @@ private void onTickHead(boolean skipRecheckGaps, CallbackInfo ci)
             final List<Chunk> neighbors = this.getSurroundingChunks();
             if (this.isGapLightingUpdated && this.world.provider.hasSkyLight() && !skipRecheckGaps && !neighbors.isEmpty())
             {
-                this.lightExecutorService.execute(() -> {
+                this.lightExecutorService.execute((Chunk) (Object) this, RECHECK_GAPS_TASK, () -> {
                     this.recheckGapsAsync(neighbors);
-                });
+                }, null);
                 this.isGapLightingUpdated = false;
             }
     
@@ -132,9 +136,9 @@ private void onTickHead(boolean skipRecheckGaps, CallbackInfo ci)
     
             if (!this.isLightPopulated && this.isTerrainPopulated && !neighbors.isEmpty())
             {
-                this.lightExecutorService.execute(() -> {
+                this.lightExecutorService.execute((Chunk) (Object) this, CHECK_LIGHT_TASK, () -> {
                     this.checkLightAsync(neighbors);
-                });
+                }, () -> this.isLightPopulated = false);
                 // set to true to avoid requeuing the same task when not finished
                 this.isLightPopulated = true;
             }
@@ -224,7 +228,7 @@ private void recheckGapsAsync(List<Chunk> neighbors) {
 
     @Redirect(method = "enqueueRelightChecks", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/World;getBlockState(Lnet/minecraft/util/math/BlockPos;)Lnet/minecraft/block/state/IBlockState;"))
     private IBlockState onRelightChecksGetBlockState(World world, BlockPos pos) {
-        Chunk chunk = ((IMixinChunkProviderServer) world.getChunkProvider()).getLoadedChunkWithoutMarkingActive(pos.getX() >> 4, pos.getZ() >> 4);
+        Chunk chunk = ((IMixinChunkProviderServer) world.getChunkProvider()).getLoadedChunkConcurrently(pos.getX() >> 4, pos.getZ() >> 4);
 
         final IMixinChunk spongeChunk = (IMixinChunk) chunk;
         if (chunk == null || chunk.unloadQueued || !spongeChunk.areNeighborsLoaded()) {
@@ -270,9 +274,9 @@ private void checkLightHead(CallbackInfo ci) {
 
             if (SpongeImpl.getServer().isCallingFromMinecraftThread()) {
                 try {
-                    this.lightExecutorService.execute(() -> {
+                    this.lightExecutorService.execute((Chunk) (Object) this, CHECK_LIGHT_TASK, () -> {
                         this.checkLightAsync(neighborChunks);
-                    });
+                    }, () -> this.isLightPopulated = false);
                 } catch (RejectedExecutionException e) {
                     // This could happen if ServerHangWatchdog kills the server
                     // between the start of the method and the execute() call.
@@ -491,9 +495,9 @@ private List<Chunk> getSurroundingChunks() {
     @Inject(method = "relightBlock", at = @At("HEAD"), cancellable = true)
     private void onRelightBlock(int x, int y, int z, CallbackInfo ci) {
         if (!this.world.isRemote) {
-            this.lightExecutorService.execute(() -> {
+            this.lightExecutorService.execute((Chunk) (Object) this, RELIGHT_BLOCK_TASK | (y << 8) | (z << 4) | x, () -> {
                 this.relightBlockAsync(x, y, z);
-            });
+            }, null);
             ci.cancel();
         }
     }
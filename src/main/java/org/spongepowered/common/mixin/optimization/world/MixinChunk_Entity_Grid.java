@@ -0,0 +1,117 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.world;
+
+import com.google.common.base.Predicate;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.ClassInheritanceMultiMap;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.world.EntitySectionGrid;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+@Mixin(Chunk.class)
+public abstract class MixinChunk_Entity_Grid {
+
+    private static final String ITERATE_SECTION = "Lnet/minecraft/util/ClassInheritanceMultiMap;iterator()Ljava/util/Iterator;";
+    private static final String GET_SECTION_BY_CLASS = "Lnet/minecraft/util/ClassInheritanceMultiMap;getByClass(Ljava/lang/Class;)Ljava/lang/Iterable;";
+
+    @Shadow @Final public int x;
+    @Shadow @Final public int z;
+    @Shadow @Final private ClassInheritanceMultiMap<Entity>[] entityLists;
+
+    private final EntitySectionGrid[] entityGrids = new EntitySectionGrid[16];
+
+    @Inject(method = "addEntity", at = @At("RETURN"))
+    private void onAddEntityToGrid(Entity entityIn, CallbackInfo ci) {
+        // Vanilla clamps the section index and stores it as the entity's chunk y coordinate
+        final int index = entityIn.chunkCoordY;
+        EntitySectionGrid grid = this.entityGrids[index];
+        if (grid == null) {
+            grid = new EntitySectionGrid(this.x, index, this.z);
+            this.entityGrids[index] = grid;
+        }
+        grid.add(entityIn);
+    }
+
+    @Inject(method = "removeEntityAtIndex", at = @At("RETURN"))
+    private void onRemoveEntityFromGrid(Entity entityIn, int index, CallbackInfo ci) {
+        final EntitySectionGrid grid = this.entityGrids[Math.max(0, Math.min(index, this.entityGrids.length - 1))];
+        if (grid != null) {
+            grid.remove(entityIn);
+        }
+    }
+
+    @Redirect(method = "getEntitiesWithinAABBForEntity", at = @At(value = "INVOKE", target = ITERATE_SECTION))
+    private Iterator<Entity> onIterateSection(ClassInheritanceMultiMap<Entity> section, @Nullable Entity entityIn, AxisAlignedBB aabb,
+            List<Entity> listToFill, Predicate<? super Entity> predicate) {
+        final EntitySectionGrid grid = this.getGrid(section);
+        if (grid == null || grid.size() < EntitySectionGrid.MIN_ENTITIES) {
+            return section.iterator();
+        }
+        return grid.getCandidates(aabb).iterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Redirect(method = "getEntitiesOfTypeWithinAABB", at = @At(value = "INVOKE", target = GET_SECTION_BY_CLASS))
+    private <T extends Entity> Iterable<T> onGetSectionByClass(ClassInheritanceMultiMap<Entity> section, Class<T> type,
+            Class<? extends T> entityClass, AxisAlignedBB aabb, List<T> listToFill, Predicate<? super T> predicate) {
+        final EntitySectionGrid grid = this.getGrid(section);
+        if (grid == null || grid.size() < EntitySectionGrid.MIN_ENTITIES) {
+            return section.getByClass(type);
+        }
+        final List<Entity> candidates = grid.getCandidates(aabb);
+        final List<T> matching = new ArrayList<>(candidates.size());
+        for (Entity candidate : candidates) {
+            if (type.isInstance(candidate)) {
+                matching.add((T) candidate);
+            }
+        }
+        return matching;
+    }
+
+    @Nullable
+    private EntitySectionGrid getGrid(ClassInheritanceMultiMap<Entity> section) {
+        final ClassInheritanceMultiMap<Entity>[] entityLists = this.entityLists;
+        for (int i = 0; i < entityLists.length; i++) {
+            if (entityLists[i] == section) {
+                return this.entityGrids[i];
+            }
+        }
+        return null;
+    }
+}
@@ -24,7 +24,6 @@
  */
 package org.spongepowered.common.mixin.optimization.world;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
@@ -40,10 +39,10 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.mixin.core.world.MixinWorld;
+import org.spongepowered.common.world.light.BatchLightEngine;
+import org.spongepowered.common.world.light.SpongeLightingScheduler;
 
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import javax.annotation.Nullable;
 
@@ -54,9 +53,10 @@ public abstract class MixinWorldServer_Async_Lighting extends MixinWorld impleme
     private static final int NUM_SHORT_Y_BITS = 8;
     private static final short XZ_MASK = 0xF;
     private static final short Y_SHORT_MASK = 0xFF;
+    private static final long LIGHT_BATCH_TASK = 4L << 32;
 
-    private ExecutorService lightExecutorService = 
-                Executors.newFixedThreadPool(SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncLightingCategory().getNumThreads(), new ThreadFactoryBuilder().setNameFormat("Sponge - Async Light Thread").build());
+    private SpongeLightingScheduler lightExecutorService = SpongeLightingScheduler.getInstance();
+    private boolean batchLightUpdates = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncLightingCategory().useBatchUpdates();
 
     @Override
     public boolean checkLightFor(EnumSkyBlock lightType, BlockPos pos) {
@@ -220,7 +220,6 @@ public boolean updateLightAsync(EnumSkyBlock lightType, BlockPos pos, @Nullable
 
         final Chunk chunk = currentChunk;
         spongeChunk.getQueuedLightingUpdates(lightType).add(shortPos);
-        spongeChunk.getPendingLightUpdates().incrementAndGet();
         spongeChunk.setLightUpdateTime(chunk.getWorld().getTotalWorldTime());
 
         List<Chunk> neighbors = spongeChunk.getNeighbors();
@@ -244,14 +243,29 @@ public boolean updateLightAsync(EnumSkyBlock lightType, BlockPos pos, @Nullable
 
         for (net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
             final IMixinChunk neighbor = (IMixinChunk) neighborChunk;
-            neighbor.getPendingLightUpdates().incrementAndGet();
             neighbor.setLightUpdateTime(chunk.getWorld().getTotalWorldTime());
         }
 
-        //System.out.println("size = " + ((ThreadPoolExecutor) this.lightExecutorService).getQueue().size());
+        if (this.batchLightUpdates) {
+            this.queueLightBatch(lightType, chunk, neighbors);
+            return true;
+        }
+
+        spongeChunk.getPendingLightUpdates().incrementAndGet();
+        for (net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
+            ((IMixinChunk) neighborChunk).getPendingLightUpdates().incrementAndGet();
+        }
+
         if (SpongeImpl.getServer().isCallingFromMinecraftThread()) {
-            this.lightExecutorService.execute(() -> {
+            this.lightExecutorService.execute(chunk, ((long) lightType.ordinal() << 16) | (shortPos & 0xFFFF), () -> {
                 this.checkLightAsync(lightType, pos, chunk, neighbors);
+            }, () -> {
+                // The chunk is being unloaded, release the pending update so it isn't held back
+                spongeChunk.getQueuedLightingUpdates(lightType).remove((Short) shortPos);
+                spongeChunk.getPendingLightUpdates().decrementAndGet();
+                for (net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
+                    ((IMixinChunk) neighborChunk).getPendingLightUpdates().decrementAndGet();
+                }
             });
         } else {
             this.checkLightAsync(lightType, pos, chunk, neighbors);
@@ -260,8 +274,53 @@ public boolean updateLightAsync(EnumSkyBlock lightType, BlockPos pos, @Nullable
         return true;
     }
 
+    /**
+     * Queues a task processing every pending light update of the chunk, unless
+     * one is already queued, in which case the update is picked up by it.
+     */
+    private void queueLightBatch(EnumSkyBlock lightType, Chunk chunk, List<Chunk> neighbors) {
+        this.incrementPendingLightUpdates(chunk, neighbors, 1);
+        if (!SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+            this.checkLightBatch(lightType, chunk, neighbors);
+            return;
+        }
+
+        final boolean queued = this.lightExecutorService.execute(chunk, LIGHT_BATCH_TASK | lightType.ordinal(), () -> {
+            this.checkLightBatch(lightType, chunk, neighbors);
+        }, () -> {
+            ((IMixinChunk) chunk).getQueuedLightingUpdates(lightType).clear();
+            this.incrementPendingLightUpdates(chunk, neighbors, -1);
+        });
+        if (!queued) {
+            this.incrementPendingLightUpdates(chunk, neighbors, -1);
+        }
+    }
+
+    private void checkLightBatch(EnumSkyBlock lightType, Chunk chunk, List<Chunk> neighbors) {
+        final List<Short> queuedUpdates = ((IMixinChunk) chunk).getQueuedLightingUpdates(lightType);
+        final BatchLightEngine engine = BatchLightEngine.get();
+        engine.begin((net.minecraft.world.World) (Object) this, lightType, chunk, neighbors);
+        try {
+            for (Short shortPos : queuedUpdates) {
+                final int packed = shortPos & 0xFFFF;
+                engine.checkLight((chunk.x << 4) + (packed & XZ_MASK), packed >> 4 & Y_SHORT_MASK, (chunk.z << 4) + (packed >> 12 & XZ_MASK));
+                queuedUpdates.remove(shortPos);
+            }
+        } finally {
+            engine.end();
+            this.incrementPendingLightUpdates(chunk, neighbors, -1);
+        }
+    }
+
+    private void incrementPendingLightUpdates(Chunk chunk, List<Chunk> neighbors, int amount) {
+        ((IMixinChunk) chunk).getPendingLightUpdates().addAndGet(amount);
+        for (net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
+            ((IMixinChunk) neighborChunk).getPendingLightUpdates().addAndGet(amount);
+        }
+    }
+
     @Override
-    public ExecutorService getLightingExecutor() {
+    public SpongeLightingScheduler getLightingExecutor() {
         return this.lightExecutorService;
     }
 
@@ -93,10 +93,22 @@ public void postApply(String targetClassName, ClassNode targetClass, String mixi
                     (module) -> true)
             .put("org.spongepowered.common.mixin.optimization.block.MixinBlockRedstoneWire",
                     OptimizationCategory::usePandaRedstone)
+            .put("org.spongepowered.common.mixin.optimization.entity.MixinEntityItem_Hopper_Sleeping",
+                    OptimizationCategory::useHopperSleeping)
             .put("org.spongepowered.common.mixin.optimization.entity.MixinEntityTameable_Cached_Owner",
                     OptimizationCategory::useCacheTameableOwners)
+            .put("org.spongepowered.common.mixin.optimization.entity.MixinEntity_Entity_Grid",
+                    OptimizationCategory::useEntitySpatialGrid)
+            .put("org.spongepowered.common.mixin.optimization.inventory.MixinInventoryLargeChest_Hopper_Sleeping",
+                    OptimizationCategory::useHopperSleeping)
+            .put("org.spongepowered.common.mixin.optimization.tileentity.MixinTileEntityHopper_Sleeping",
+                    OptimizationCategory::useHopperSleeping)
+            .put("org.spongepowered.common.mixin.optimization.tileentity.MixinTileEntity_Hopper_Sleeping",
+                    OptimizationCategory::useHopperSleeping)
             .put("org.spongepowered.common.mixin.optimization.world.MixinChunk_Async_Lighting",
                     OptimizationCategory::useAsyncLighting)
+            .put("org.spongepowered.common.mixin.optimization.world.MixinChunk_Entity_Grid",
+                    OptimizationCategory::useEntitySpatialGrid)
             .put("org.spongepowered.common.mixin.optimization.world.MixinWorldServer_Async_Lighting",
                     OptimizationCategory::useAsyncLighting)
             .put("org.spongepowered.common.mixin.optimization.world.gen.MixinChunkProviderServer_Async_Lighting",
@@ -28,6 +28,8 @@
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.entity.EntityLivingBase;
@@ -51,6 +53,7 @@
 import net.minecraft.entity.projectile.EntityFireball;
 import net.minecraft.entity.projectile.EntityThrowable;
 import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
@@ -73,7 +76,13 @@
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import javax.annotation.Nullable;
 
 public class EntityActivationRange {
 
@@ -94,6 +103,18 @@ public class EntityActivationRange {
     static AxisAlignedBB tileEntityBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
     static Map<Byte, Integer> maxActivationRanges = Maps.newHashMap();
 
+    // Results of evaluateActivation
+    static final byte SKIP = 0;
+    static final byte ACTIVATE = 1;
+    static final byte DEFER = 2;
+
+    /**
+     * Below this amount of chunks near players, parallel activation is not
+     * worth the overhead of forking tasks.
+     */
+    private static final int PARALLEL_MIN_CHUNKS = 64;
+    @Nullable private static ForkJoinPool activationPool;
+
     /**
      * Initializes an entities type on construction to specify what group this
      * entity is in for activation ranges.
@@ -222,16 +243,22 @@ public static void activateEntities(World world) {
             return;
         }
 
-        for (EntityPlayer player : world.playerEntities) {
-
-            int maxRange = 0;
-            for (Integer range : maxActivationRanges.values()) {
-                if (range > maxRange) {
-                    maxRange = range;
-                }
+        final SpongeConfig<? extends GeneralConfigBase> config = ((IMixinWorldServer) world).getActiveConfig();
+        if (config != null) {
+            final EntityActivationRangeCategory activationCategory = config.getConfig().getEntityActivationRange();
+            if (activationCategory.useParallelActivation()) {
+                activateEntitiesParallel((WorldServer) world);
+                return;
+            }
+            if (activationCategory.useSpatialIndex()) {
+                activateEntitiesIndexed((WorldServer) world);
+                return;
             }
+        }
 
-            maxRange = Math.min((((org.spongepowered.api.world.World) world).getViewDistance() << 4) - 8, maxRange);
+        for (EntityPlayer player : world.playerEntities) {
+
+            final int maxRange = getMaxActivationRange(world);
             ((IModData_Activation) player).setActivatedTick(SpongeImpl.getServer().getTickCounter());
             growBb(maxBB, player.getEntityBoundingBox(), maxRange, 256, maxRange);
 
@@ -252,6 +279,242 @@ public static void activateEntities(World world) {
         }
     }
 
+    /**
+     * Gets the largest activation range of any known entity, capped to the
+     * view distance of the world.
+     *
+     * @param world The world to get the range for
+     * @return The maximum activation range
+     */
+    private static int getMaxActivationRange(World world) {
+        int maxRange = 0;
+        for (Integer range : maxActivationRanges.values()) {
+            if (range > maxRange) {
+                maxRange = range;
+            }
+        }
+
+        return Math.min((((org.spongepowered.api.world.World) world).getViewDistance() << 4) - 8, maxRange);
+    }
+
+    /**
+     * Find what entities are in range of the players in the world using a
+     * per-tick index of the chunks near players. Unlike the per-player sweep,
+     * every loaded chunk is only visited once no matter how many players
+     * are near it.
+     *
+     * @param world The world to perform activation checks in
+     */
+    private static void activateEntitiesIndexed(WorldServer world) {
+        final long currentTick = SpongeImpl.getServer().getTickCounter();
+        final Long2ObjectMap<List<EntityPlayer>> nearbyPlayers = indexNearbyPlayers(world, currentTick);
+        final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) world.getChunkProvider();
+
+        for (Long2ObjectMap.Entry<List<EntityPlayer>> entry : nearbyPlayers.long2ObjectEntrySet()) {
+            final long chunkKey = entry.getLongKey();
+            final Chunk chunk = chunkProvider.getLoadedChunkWithoutMarkingActive((int) chunkKey, (int) (chunkKey >>> 32));
+            if (chunk != null) {
+                activateChunkEntities(entry.getValue(), chunk, currentTick);
+            }
+        }
+    }
+
+    /**
+     * Find what entities are in range of the players in the world, evaluating
+     * the chunks near players on worker threads. The results are merged in
+     * chunk order and applied on the main thread, so the outcome is identical
+     * to {@link #activateEntitiesIndexed(WorldServer)}.
+     *
+     * @param world The world to perform activation checks in
+     */
+    private static void activateEntitiesParallel(WorldServer world) {
+        final long currentTick = SpongeImpl.getServer().getTickCounter();
+        final Long2ObjectMap<List<EntityPlayer>> nearbyPlayers = indexNearbyPlayers(world, currentTick);
+        final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) world.getChunkProvider();
+        final List<Chunk> chunks = new ArrayList<>(nearbyPlayers.size());
+        final List<List<EntityPlayer>> chunkPlayers = new ArrayList<>(nearbyPlayers.size());
+
+        for (Long2ObjectMap.Entry<List<EntityPlayer>> entry : nearbyPlayers.long2ObjectEntrySet()) {
+            final long chunkKey = entry.getLongKey();
+            final Chunk chunk = chunkProvider.getLoadedChunkWithoutMarkingActive((int) chunkKey, (int) (chunkKey >>> 32));
+            if (chunk != null) {
+                chunks.add(chunk);
+                chunkPlayers.add(entry.getValue());
+            }
+        }
+
+        if (chunks.size() < PARALLEL_MIN_CHUNKS) {
+            for (int i = 0; i < chunks.size(); i++) {
+                activateChunkEntities(chunkPlayers.get(i), chunks.get(i), currentTick);
+            }
+            return;
+        }
+
+        final EntityActivationTask.Result result = getActivationPool().invoke(new EntityActivationTask(chunks, chunkPlayers, 0, chunks.size(), currentTick));
+        for (int i = 0; i < result.activated.size(); i++) {
+            ((IModData_Activation) result.activated.get(i)).setActivatedTick(currentTick);
+        }
+        for (int i = 0; i < result.deferred.size(); i++) {
+            final Entity entity = result.deferred.get(i);
+            if (requiresRangeCheck(entity, currentTick) && isInRangeOfAnyPlayer(entity, chunkPlayers.get(result.deferredChunks.getInt(i)))) {
+                ((IModData_Activation) entity).setActivatedTick(currentTick);
+            }
+        }
+    }
+
+    private static ForkJoinPool getActivationPool() {
+        if (activationPool == null) {
+            final int threads = SpongeImpl.getGlobalConfig().getConfig().getEntityActivationRange().getParallelThreads();
+            if (threads <= 0) {
+                activationPool = ForkJoinPool.commonPool();
+            } else {
+                activationPool = new ForkJoinPool(threads, pool -> {
+                    final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("Sponge - Entity Activation Thread - " + thread.getPoolIndex());
+                    thread.setDaemon(true);
+                    return thread;
+                }, null, false);
+            }
+        }
+        return activationPool;
+    }
+
+    /**
+     * Builds the union of all player activation regions, keyed by chunk, along
+     * with the players whose region covers each chunk.
+     *
+     * @param world The world to index
+     * @param currentTick The current server tick
+     * @return The players near each chunk, keyed by {@link ChunkPos#asLong}
+     */
+    private static Long2ObjectMap<List<EntityPlayer>> indexNearbyPlayers(World world, long currentTick) {
+        final Long2ObjectMap<List<EntityPlayer>> nearbyPlayers = new Long2ObjectOpenHashMap<>();
+        final int maxRange = getMaxActivationRange(world);
+
+        for (EntityPlayer player : world.playerEntities) {
+            ((IModData_Activation) player).setActivatedTick(currentTick);
+            final AxisAlignedBB playerBB = player.getEntityBoundingBox();
+            final int minChunkX = MathHelper.floor((playerBB.minX - maxRange) / 16.0D);
+            final int maxChunkX = MathHelper.floor((playerBB.maxX + maxRange) / 16.0D);
+            final int minChunkZ = MathHelper.floor((playerBB.minZ - maxRange) / 16.0D);
+            final int maxChunkZ = MathHelper.floor((playerBB.maxZ + maxRange) / 16.0D);
+
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; ++chunkX) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; ++chunkZ) {
+                    final long chunkKey = ChunkPos.asLong(chunkX, chunkZ);
+                    List<EntityPlayer> players = nearbyPlayers.get(chunkKey);
+                    if (players == null) {
+                        players = new ArrayList<>(4);
+                        nearbyPlayers.put(chunkKey, players);
+                    }
+                    players.add(player);
+                }
+            }
+        }
+
+        return nearbyPlayers;
+    }
+
+    /**
+     * Checks for the activation state of all entities in this chunk against
+     * every player whose activation region covers the chunk.
+     *
+     * @param players The players near the chunk
+     * @param chunk Chunk to check for activation
+     * @param currentTick The current server tick
+     */
+    private static void activateChunkEntities(List<EntityPlayer> players, Chunk chunk, long currentTick) {
+        for (int i = 0; i < chunk.getEntityLists().length; ++i) {
+            for (Entity entity : chunk.getEntityLists()[i]) {
+                if (requiresRangeCheck(entity, currentTick) && isInRangeOfAnyPlayer(entity, players)) {
+                    ((IModData_Activation) entity).setActivatedTick(currentTick);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether the entity still needs to be tested against player
+     * activation regions this tick. Entities that are always active are
+     * activated directly.
+     *
+     * @param entity The entity to check
+     * @param currentTick The current server tick
+     * @return True if the entity must be range checked
+     */
+    private static boolean requiresRangeCheck(Entity entity, long currentTick) {
+        final IModData_Activation spongeEntity = (IModData_Activation) entity;
+        if (((org.spongepowered.api.entity.Entity) entity).getType() == EntityTypes.UNKNOWN) {
+            spongeEntity.setActivatedTick(currentTick);
+            return false;
+        }
+        if (currentTick <= spongeEntity.getActivatedTick()) {
+            return false;
+        }
+        if (spongeEntity.getDefaultActivationState()) {
+            spongeEntity.setActivatedTick(currentTick);
+            return false;
+        }
+
+        // check if activation cache needs to be updated
+        if (spongeEntity.requiresActivationCacheRefresh()) {
+            EntityActivationRange.initializeEntityActivationState(entity);
+            spongeEntity.requiresActivationCacheRefresh(false);
+        }
+        return true;
+    }
+
+    /**
+     * Evaluates the activation state of the entity without modifying it, so
+     * it may be called off the main thread.
+     *
+     * @param entity The entity to evaluate
+     * @param currentTick The current server tick
+     * @param players The players near the entity's chunk
+     * @return {@link #ACTIVATE} if the entity should be activated,
+     *     {@link #DEFER} if it must be evaluated on the main thread, or
+     *     {@link #SKIP} otherwise
+     */
+    static byte evaluateActivation(Entity entity, long currentTick, List<EntityPlayer> players) {
+        final IModData_Activation spongeEntity = (IModData_Activation) entity;
+        if (((org.spongepowered.api.entity.Entity) entity).getType() == EntityTypes.UNKNOWN) {
+            return ACTIVATE;
+        }
+        if (currentTick <= spongeEntity.getActivatedTick()) {
+            return SKIP;
+        }
+        if (spongeEntity.getDefaultActivationState()) {
+            return ACTIVATE;
+        }
+        if (spongeEntity.requiresActivationCacheRefresh()) {
+            // Refreshing may touch the config, leave it to the main thread
+            return DEFER;
+        }
+        return isInRangeOfAnyPlayer(entity, players) ? ACTIVATE : SKIP;
+    }
+
+    /**
+     * Checks if the entity intersects the activation region of any of the
+     * given players, using the entity's own activation range.
+     *
+     * @param entity The entity to check
+     * @param players The players to check against
+     * @return True if the entity is in range of a player
+     */
+    private static boolean isInRangeOfAnyPlayer(Entity entity, List<EntityPlayer> players) {
+        final int range = ((IModData_Activation) entity).getActivationRange();
+        final AxisAlignedBB entityBB = entity.getEntityBoundingBox();
+        for (int i = 0; i < players.size(); i++) {
+            final AxisAlignedBB playerBB = players.get(i).getEntityBoundingBox();
+            if (entityBB.maxX > playerBB.minX - range && entityBB.minX < playerBB.maxX + range
+                    && entityBB.maxY > playerBB.minY - 256 && entityBB.minY < playerBB.maxY + 256
+                    && entityBB.maxZ > playerBB.minZ - range && entityBB.minZ < playerBB.maxZ + range) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Checks for the activation state of all entities in this chunk.
      *
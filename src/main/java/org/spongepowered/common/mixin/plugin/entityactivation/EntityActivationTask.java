@@ -0,0 +1,123 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entityactivation;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.world.chunk.Chunk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Evaluates the activation state of the entities in a range of chunks on a
+ * fork-join pool. Tasks only read entity state, the results are applied by
+ * the main thread once every task has completed.
+ */
+final class EntityActivationTask extends RecursiveTask<EntityActivationTask.Result> {
+
+    private static final long serialVersionUID = 1L;
+    private static final int CHUNKS_PER_TASK = 16;
+
+    private final List<Chunk> chunks;
+    private final List<List<EntityPlayer>> players;
+    private final int start;
+    private final int end;
+    private final long currentTick;
+
+    EntityActivationTask(List<Chunk> chunks, List<List<EntityPlayer>> players, int start, int end, long currentTick) {
+        this.chunks = chunks;
+        this.players = players;
+        this.start = start;
+        this.end = end;
+        this.currentTick = currentTick;
+    }
+
+    @Override
+    protected Result compute() {
+        if (this.end - this.start <= CHUNKS_PER_TASK) {
+            return this.computeDirectly();
+        }
+
+        final int middle = (this.start + this.end) >>> 1;
+        final EntityActivationTask left = new EntityActivationTask(this.chunks, this.players, this.start, middle, this.currentTick);
+        final EntityActivationTask right = new EntityActivationTask(this.chunks, this.players, middle, this.end, this.currentTick);
+        right.fork();
+        final Result result = left.compute();
+        // Always append the right half after the left half so the merged result is in chunk order
+        result.append(right.join());
+        return result;
+    }
+
+    private Result computeDirectly() {
+        final Result result = new Result();
+        for (int index = this.start; index < this.end; index++) {
+            final Chunk chunk = this.chunks.get(index);
+            final List<EntityPlayer> chunkPlayers = this.players.get(index);
+            for (int i = 0; i < chunk.getEntityLists().length; ++i) {
+                for (Entity entity : chunk.getEntityLists()[i]) {
+                    switch (EntityActivationRange.evaluateActivation(entity, this.currentTick, chunkPlayers)) {
+                        case EntityActivationRange.ACTIVATE:
+                            result.activated.add(entity);
+                            break;
+                        case EntityActivationRange.DEFER:
+                            result.deferred.add(entity);
+                            result.deferredChunks.add(index);
+                            break;
+                        default:
+                            break;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    static final class Result {
+
+        /**
+         * Entities which should be marked as active this tick.
+         */
+        final List<Entity> activated = new ArrayList<>();
+        /**
+         * Entities whose activation cache must be refreshed on the main
+         * thread before they can be range checked.
+         */
+        final List<Entity> deferred = new ArrayList<>();
+        /**
+         * The chunk index of each deferred entity.
+         */
+        final IntList deferredChunks = new IntArrayList();
+
+        void append(Result other) {
+            this.activated.addAll(other.activated);
+            this.deferred.addAll(other.deferred);
+            this.deferredChunks.addAll(other.deferredChunks);
+        }
+    }
+}
@@ -47,12 +47,15 @@
 import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.interfaces.IModData_TileEntityActivationMap;
 import org.spongepowered.common.util.VecHelper;
 
 import java.util.Map;
 
 public class TileEntityActivation {
 
+    private static int maxActivationRange = 0;
+
     /**
      * These tileentities are excluded from Activation range checks.
      *
@@ -77,13 +80,13 @@ public static boolean initializeTileEntityActivationState(TileEntity tileEntity)
         int defaultTickRate = config.getDefaultTickRate();
         if (tileEntityMod == null) {
             // use default activation range
-            spongeTileEntity.setActivationRange(defaultActivationRange);
+            setActivationRange(spongeTileEntity, defaultActivationRange);
             if (defaultActivationRange <= 0) {
                 return true;
             }
             return false;
         } else if (!tileEntityMod.isEnabled()) {
-            spongeTileEntity.setActivationRange(defaultActivationRange);
+            setActivationRange(spongeTileEntity, defaultActivationRange);
             spongeTileEntity.setSpongeTickRate(defaultTickRate);
             return true;
         }
@@ -91,12 +94,12 @@ public static boolean initializeTileEntityActivationState(TileEntity tileEntity)
         Integer defaultModActivationRange = tileEntityMod.getDefaultBlockRange();
         Integer tileEntityActivationRange = tileEntityMod.getTileEntityRangeList().get(type.getName().toLowerCase());
         if (defaultModActivationRange != null && tileEntityActivationRange == null) {
-            spongeTileEntity.setActivationRange(defaultModActivationRange);
+            setActivationRange(spongeTileEntity, defaultModActivationRange);
             if (defaultModActivationRange <= 0) {
                 return true;
             }
         } else if (tileEntityActivationRange != null) {
-            spongeTileEntity.setActivationRange(tileEntityActivationRange);
+            setActivationRange(spongeTileEntity, tileEntityActivationRange);
             if (tileEntityActivationRange <= 0) {
                 return true;
             }
@@ -120,6 +123,13 @@ public static boolean initializeTileEntityActivationState(TileEntity tileEntity)
         return false;
     }
 
+    private static void setActivationRange(IModData_Activation spongeTileEntity, int range) {
+        spongeTileEntity.setActivationRange(range);
+        if (range > maxActivationRange) {
+            maxActivationRange = range;
+        }
+    }
+
     /**
     * Find what tileentities are in range of the players in the world and set
     * active if in range.
@@ -127,6 +137,13 @@ public static boolean initializeTileEntityActivationState(TileEntity tileEntity)
     * @param world The world to perform activation checks in
     */
     public static void activateTileEntities(WorldServer world) {
+        final SpongeConfig<? extends GeneralConfigBase> config = ((IMixinWorldServer) world).getActiveConfig();
+        if (config != null && config.getConfig().getTileEntityActivationRange().useChunkMap()) {
+            final int radius = Math.min((maxActivationRange >> 4) + 1, ((org.spongepowered.api.world.World) world).getViewDistance());
+            ((IModData_TileEntityActivationMap) world).getTileEntityActivationMap().update(world.playerEntities, radius);
+            return;
+        }
+
         final PlayerChunkMap playerChunkMap = world.getPlayerChunkMap();
         for (PlayerChunkMapEntry playerChunkMapEntry : playerChunkMap.entries) {
             for (EntityPlayer player : playerChunkMapEntry.players) {
@@ -199,6 +216,9 @@ public static boolean checkIfActive(TileEntity tileEntity) {
 
         long currentTick = SpongeImpl.getServer().getTickCounter();
         IModData_Activation spongeTileEntity = (IModData_Activation) tileEntity;
+        if (((IMixinWorldServer) world).getActiveConfig().getConfig().getTileEntityActivationRange().useChunkMap()) {
+            refreshActivation(tileEntity, currentTick);
+        }
         boolean isActive = activeChunk.isPersistedChunk() || spongeTileEntity.getActivatedTick() >= currentTick || spongeTileEntity.getDefaultActivationState();
 
         // Should this entity tick?
@@ -217,6 +237,29 @@ public static boolean checkIfActive(TileEntity tileEntity) {
         return isActive;
     }
 
+    /**
+     * Activates the tileentity if its chunk is near a player according to the
+     * world's {@link TileEntityActivationMap}.
+     *
+     * @param tileEntity The tileentity to activate
+     * @param currentTick The current server tick
+     */
+    private static void refreshActivation(TileEntity tileEntity, long currentTick) {
+        final IModData_Activation spongeTileEntity = (IModData_Activation) tileEntity;
+        if (currentTick <= spongeTileEntity.getActivatedTick() || spongeTileEntity.getDefaultActivationState()) {
+            return;
+        }
+        // check if activation cache needs to be updated
+        if (spongeTileEntity.requiresActivationCacheRefresh()) {
+            TileEntityActivation.initializeTileEntityActivationState(tileEntity);
+            spongeTileEntity.requiresActivationCacheRefresh(false);
+        }
+        final TileEntityActivationMap activationMap = ((IModData_TileEntityActivationMap) tileEntity.getWorld()).getTileEntityActivationMap();
+        if (activationMap.isInRange(tileEntity.getPos(), spongeTileEntity.getActivationRange())) {
+            spongeTileEntity.setActivatedTick(currentTick);
+        }
+    }
+
     public static void addTileEntityToConfig(World world, SpongeTileEntityType type) {
         checkNotNull(world, "world");
         checkNotNull(type, "type");
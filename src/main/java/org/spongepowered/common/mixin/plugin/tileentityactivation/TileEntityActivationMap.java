@@ -0,0 +1,112 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.tileentityactivation;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.List;
+
+/**
+ * Tracks which chunks of a world are within tileentity activation range of
+ * any player, keyed by {@link ChunkPos#asLong}. For every covered chunk the
+ * distance in chunks to the nearest player is stored so tileentities with
+ * smaller ranges can still be filtered.
+ *
+ * <p>The map is only rebuilt when a player crosses a chunk border, joins or
+ * leaves the world, or the activation radius changes.</p>
+ */
+public final class TileEntityActivationMap {
+
+    private static final int NOT_IN_RANGE = Integer.MAX_VALUE;
+
+    private final Long2IntOpenHashMap chunkDistances = new Long2IntOpenHashMap();
+    private final Reference2LongOpenHashMap<EntityPlayer> playerChunks = new Reference2LongOpenHashMap<>();
+    private int radius = -1;
+
+    public TileEntityActivationMap() {
+        this.chunkDistances.defaultReturnValue(NOT_IN_RANGE);
+        this.playerChunks.defaultReturnValue(Long.MIN_VALUE);
+    }
+
+    /**
+     * Updates the map if any player has moved to another chunk since the
+     * last update.
+     *
+     * @param players The players in the world
+     * @param radius The activation radius, in chunks
+     */
+    public void update(List<EntityPlayer> players, int radius) {
+        if (radius == this.radius && players.size() == this.playerChunks.size() && !this.hasPlayerChangedChunk(players)) {
+            return;
+        }
+
+        this.radius = radius;
+        this.chunkDistances.clear();
+        this.playerChunks.clear();
+        for (EntityPlayer player : players) {
+            this.playerChunks.put(player, ChunkPos.asLong(player.chunkCoordX, player.chunkCoordZ));
+            for (int x = -radius; x <= radius; x++) {
+                for (int z = -radius; z <= radius; z++) {
+                    final long chunkKey = ChunkPos.asLong(player.chunkCoordX + x, player.chunkCoordZ + z);
+                    final int distance = Math.max(Math.abs(x), Math.abs(z));
+                    if (distance < this.chunkDistances.get(chunkKey)) {
+                        this.chunkDistances.put(chunkKey, distance);
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean hasPlayerChangedChunk(List<EntityPlayer> players) {
+        for (int i = 0; i < players.size(); i++) {
+            final EntityPlayer player = players.get(i);
+            if (this.playerChunks.getLong(player) != ChunkPos.asLong(player.chunkCoordX, player.chunkCoordZ)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the chunk containing the position may contain blocks within
+     * the given range of a player.
+     *
+     * @param pos The position to check
+     * @param range The activation range, in blocks
+     * @return True if the position is near a player
+     */
+    public boolean isInRange(BlockPos pos, int range) {
+        final int distance = this.chunkDistances.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        if (distance == NOT_IN_RANGE) {
+            return false;
+        }
+        // Blocks in chunks that are n chunks apart are at least (n - 1) * 16 blocks apart
+        return distance == 0 || (distance - 1) << 4 < range;
+    }
+}
@@ -31,9 +31,18 @@
 import org.spongepowered.common.mixin.core.world.MixinWorld;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
 import org.spongepowered.common.mixin.plugin.tileentityactivation.TileEntityActivation;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.TileEntityActivationMap;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.interfaces.IModData_TileEntityActivationMap;
 
 @Mixin(value = WorldServer.class, priority = 1300)
-public abstract class MixinWorldServer_TileEntityActivation extends MixinWorld {
+public abstract class MixinWorldServer_TileEntityActivation extends MixinWorld implements IModData_TileEntityActivationMap {
+
+    private final TileEntityActivationMap tileEntityActivationMap = new TileEntityActivationMap();
+
+    @Override
+    public TileEntityActivationMap getTileEntityActivationMap() {
+        return this.tileEntityActivationMap;
+    }
 
     @Override
     public void spongeTileEntityActivation() {
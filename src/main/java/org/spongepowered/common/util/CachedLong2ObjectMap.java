@@ -24,34 +24,447 @@
  */
 package org.spongepowered.common.util;
 
+import it.unimi.dsi.fastutil.longs.AbstractLong2ObjectMap;
+import it.unimi.dsi.fastutil.longs.AbstractLongIterator;
+import it.unimi.dsi.fastutil.longs.AbstractLongSet;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.AbstractObjectCollection;
+import it.unimi.dsi.fastutil.objects.AbstractObjectIterator;
+import it.unimi.dsi.fastutil.objects.AbstractObjectSet;
+import it.unimi.dsi.fastutil.objects.ObjectCollection;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
 import org.spongepowered.common.interfaces.IMixinCachable;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 import javax.annotation.Nullable;
 
+/**
+ * A {@link Long2ObjectOpenHashMap} keyed by chunk coordinates with a small
+ * direct-mapped cache in front of it. Neighbouring chunks map to different
+ * cache slots, so lookups alternating between a few adjacent chunks do not
+ * evict each other.
+ *
+ * <p>The map itself and the cache may only be used from the owning thread.
+ * Other threads can use {@link #getConcurrently(long)}, which validates an
+ * optimistic read against modifications instead of locking. For that, every
+ * mutation, including boxed and default {@link Map} methods, removals
+ * through the views and {@link #trim()}, goes through the write lock and
+ * invalidates the cache.</p>
+ */
 public class CachedLong2ObjectMap<V extends IMixinCachable> extends Long2ObjectOpenHashMap<V> {
 
     private static final long serialVersionUID = 190617916448550012L;
-    @Nullable private V lastRetrievedValue = null;
+    // 4 x 2 chunks, indexed by the low bits of the chunk coordinates
+    private static final int CACHE_SIZE = 8;
+
+    private final IMixinCachable[] cache = new IMixinCachable[CACHE_SIZE];
+    private final StampedLock lock = new StampedLock();
+    private long cacheHits;
+    private long cacheMisses;
 
+    private static int getCacheSlot(long key) {
+        return ((int) key & 3) | (((int) (key >>> 32) & 1) << 2);
+    }
+
+    @SuppressWarnings("unchecked")
     @Override
     public V get(long key) {
-        if (this.lastRetrievedValue != null && key == this.lastRetrievedValue.getCacheKey()) {
-            return this.lastRetrievedValue;
+        final int slot = getCacheSlot(key);
+        final IMixinCachable cached = this.cache[slot];
+        if (cached != null && key == cached.getCacheKey()) {
+            this.cacheHits++;
+            return (V) cached;
+        }
+        this.cacheMisses++;
+        final V value = super.get(key);
+        if (value != null) {
+            this.cache[slot] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Gets the value for the given key from any thread. The read is retried
+     * under a read lock if the map was modified while reading it.
+     *
+     * @param key The key
+     * @return The value, or null if there is no value for the key
+     */
+    @Nullable
+    public V getConcurrently(long key) {
+        final long stamp = this.lock.tryOptimisticRead();
+        if (stamp != 0) {
+            V value;
+            try {
+                value = super.get(key);
+            } catch (RuntimeException e) {
+                // The tables were resized during the read, see validate
+                value = null;
+            }
+            if (this.lock.validate(stamp)) {
+                return value;
+            }
+        }
+        final long readStamp = this.lock.readLock();
+        try {
+            return super.get(key);
+        } finally {
+            this.lock.unlockRead(readStamp);
+        }
+    }
+
+    @Override
+    public V put(long key, V value) {
+        final long stamp = this.lock.writeLock();
+        try {
+            final int slot = getCacheSlot(key);
+            final IMixinCachable cached = this.cache[slot];
+            if (cached != null && key == cached.getCacheKey()) {
+                this.cache[slot] = value;
+            }
+            return super.put(key, value);
+        } finally {
+            this.lock.unlockWrite(stamp);
         }
-        return this.lastRetrievedValue = super.get(key);
     }
 
     @Override
     public V remove(long key) {
-        if (this.lastRetrievedValue != null && key == this.lastRetrievedValue.getCacheKey()) {
-            this.lastRetrievedValue = null;
+        final long stamp = this.lock.writeLock();
+        try {
+            this.invalidate(key);
+            return super.remove(key);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void clear() {
+        final long stamp = this.lock.writeLock();
+        try {
+            Arrays.fill(this.cache, null);
+            super.clear();
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    private void invalidate(long key) {
+        final int slot = getCacheSlot(key);
+        final IMixinCachable cached = this.cache[slot];
+        if (cached != null && key == cached.getCacheKey()) {
+            this.cache[slot] = null;
+        }
+    }
+
+    @Override
+    public boolean trim() {
+        final long stamp = this.lock.writeLock();
+        try {
+            return super.trim();
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean trim(int n) {
+        final long stamp = this.lock.writeLock();
+        try {
+            return super.trim(n);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    // The boxed and default Map mutators below are only called from the
+    // owning thread, so they can be built from the locked primitive methods
+
+    @Override
+    public V put(Long key, V value) {
+        return this.put(key.longValue(), value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        return key instanceof Long ? this.remove(((Long) key).longValue()) : this.defRetValue;
+    }
+
+    @Override
+    public void putAll(Map<? extends Long, ? extends V> map) {
+        for (Map.Entry<? extends Long, ? extends V> entry : map.entrySet()) {
+            this.put(entry.getKey().longValue(), entry.getValue());
+        }
+    }
+
+    @Override
+    public V putIfAbsent(Long key, V value) {
+        final V current = this.get(key.longValue());
+        return current != null ? current : this.put(key.longValue(), value);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        if (key instanceof Long && value != null && Objects.equals(this.get(((Long) key).longValue()), value)) {
+            this.remove(((Long) key).longValue());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean replace(Long key, V oldValue, V newValue) {
+        if (oldValue != null && Objects.equals(this.get(key.longValue()), oldValue)) {
+            this.put(key.longValue(), newValue);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public V replace(Long key, V value) {
+        return this.get(key.longValue()) != null ? this.put(key.longValue(), value) : null;
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super Long, ? super V, ? extends V> function) {
+        for (Long2ObjectMap.Entry<V> entry : super.long2ObjectEntrySet()) {
+            this.put(entry.getLongKey(), function.apply(entry.getLongKey(), entry.getValue()));
+        }
+    }
+
+    @Override
+    public V computeIfAbsent(Long key, Function<? super Long, ? extends V> mappingFunction) {
+        final V current = this.get(key.longValue());
+        if (current != null) {
+            return current;
+        }
+        final V value = mappingFunction.apply(key);
+        if (value != null) {
+            this.put(key.longValue(), value);
+        }
+        return value;
+    }
+
+    @Override
+    public V computeIfPresent(Long key, BiFunction<? super Long, ? super V, ? extends V> remappingFunction) {
+        final V current = this.get(key.longValue());
+        return current == null ? null : this.setOrRemove(key.longValue(), remappingFunction.apply(key, current));
+    }
+
+    @Override
+    public V compute(Long key, BiFunction<? super Long, ? super V, ? extends V> remappingFunction) {
+        return this.setOrRemove(key.longValue(), remappingFunction.apply(key, this.get(key.longValue())));
+    }
+
+    @Override
+    public V merge(Long key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        final V current = this.get(key.longValue());
+        return this.setOrRemove(key.longValue(), current == null ? value : remappingFunction.apply(current, value));
+    }
+
+    @Nullable
+    private V setOrRemove(long key, @Nullable V value) {
+        if (value == null) {
+            this.remove(key);
+        } else {
+            this.put(key, value);
+        }
+        return value;
+    }
+
+    // The views remove through the iterator of the backing entry set, under
+    // the write lock. Their fast iterators are not exposed.
+
+    @Override
+    public ObjectSet<Long2ObjectMap.Entry<V>> long2ObjectEntrySet() {
+        return new AbstractObjectSet<Long2ObjectMap.Entry<V>>() {
+
+            @Override
+            public ObjectIterator<Long2ObjectMap.Entry<V>> iterator() {
+                final LockedEntryIterator iterator = new LockedEntryIterator();
+                return new AbstractObjectIterator<Long2ObjectMap.Entry<V>>() {
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Long2ObjectMap.Entry<V> next() {
+                        // Detached entries, so setValue goes through put as well
+                        final Long2ObjectMap.Entry<V> entry = iterator.next();
+                        return new AbstractLong2ObjectMap.BasicEntry<V>(entry.getLongKey(), entry.getValue()) {
+
+                            @Override
+                            public V setValue(V value) {
+                                final V oldValue = this.value;
+                                CachedLong2ObjectMap.this.put(this.key, value);
+                                this.value = value;
+                                return oldValue;
+                            }
+                        };
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return CachedLong2ObjectMap.this.size();
+            }
+
+            @Override
+            public void clear() {
+                CachedLong2ObjectMap.this.clear();
+            }
+        };
+    }
+
+    @Override
+    public LongSet keySet() {
+        return new AbstractLongSet() {
+
+            @Override
+            public LongIterator iterator() {
+                final LockedEntryIterator iterator = new LockedEntryIterator();
+                return new AbstractLongIterator() {
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public long nextLong() {
+                        return iterator.next().getLongKey();
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return CachedLong2ObjectMap.this.size();
+            }
+
+            @Override
+            public boolean contains(long key) {
+                return CachedLong2ObjectMap.this.containsKey(key);
+            }
+
+            @Override
+            public void clear() {
+                CachedLong2ObjectMap.this.clear();
+            }
+        };
+    }
+
+    @Override
+    public ObjectCollection<V> values() {
+        return new AbstractObjectCollection<V>() {
+
+            @Override
+            public ObjectIterator<V> iterator() {
+                final LockedEntryIterator iterator = new LockedEntryIterator();
+                return new AbstractObjectIterator<V>() {
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public V next() {
+                        return iterator.next().getValue();
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return CachedLong2ObjectMap.this.size();
+            }
+
+            @Override
+            public boolean contains(Object value) {
+                return CachedLong2ObjectMap.this.containsValue(value);
+            }
+
+            @Override
+            public void clear() {
+                CachedLong2ObjectMap.this.clear();
+            }
+        };
+    }
+
+    private final class LockedEntryIterator extends AbstractObjectIterator<Long2ObjectMap.Entry<V>> {
+
+        private final ObjectIterator<Long2ObjectMap.Entry<V>> iterator = CachedLong2ObjectMap.super.long2ObjectEntrySet().iterator();
+        private long lastKey;
+
+        LockedEntryIterator() {
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.iterator.hasNext();
+        }
+
+        @Override
+        public Long2ObjectMap.Entry<V> next() {
+            final Long2ObjectMap.Entry<V> entry = this.iterator.next();
+            this.lastKey = entry.getLongKey();
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            final StampedLock lock = CachedLong2ObjectMap.this.lock;
+            final long stamp = lock.writeLock();
+            try {
+                this.iterator.remove();
+                CachedLong2ObjectMap.this.invalidate(this.lastKey);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
         }
-        return super.remove(key);
     }
 
     @Override
     public boolean containsKey(long key) {
         return this.get(key) != null;
     }
+
+    public long getCacheHits() {
+        return this.cacheHits;
+    }
+
+    public long getCacheMisses() {
+        return this.cacheMisses;
+    }
 }
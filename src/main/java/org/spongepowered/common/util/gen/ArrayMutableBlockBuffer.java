@@ -180,6 +180,10 @@ public ImmutableBlockVolume getImmutableBlockCopy() {
         return new ArrayImmutableBlockBuffer(this.palette, this.data.copyOf(), this.start, this.size);
     }
 
+    BackingData getBackingData() {
+        return this.data;
+    }
+
     private int area() {
         return this.size.getX() * this.size.getY() * this.size.getZ();
     }
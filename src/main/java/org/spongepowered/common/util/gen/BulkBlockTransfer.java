@@ -0,0 +1,171 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.gen;
+
+import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.network.play.server.SPacketChunkData;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.world.BlockChangeFlag;
+import org.spongepowered.api.world.World;
+import org.spongepowered.api.world.schematic.BlockPalette;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.event.EventListenerFlags;
+import org.spongepowered.common.interfaces.IMixinChunk;
+import org.spongepowered.common.world.SpongeBlockChangeFlag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Copies an {@link ArrayMutableBlockBuffer} in to a world a whole chunk
+ * section at a time, instead of block by block. The palette of the buffer
+ * is resolved once, and lighting and client updates are done once per
+ * chunk.
+ *
+ * <p>As blocks are written straight in to the chunk storage, this is only
+ * possible if the change flag asks for no neighbor updates, physics or
+ * observer notifications and nothing listens to block changes. Blocks with
+ * tile entities, before or after the copy, are still set individually.</p>
+ */
+public final class BulkBlockTransfer {
+
+    private static final int CHANGE_BLOCK_EVENT = EventListenerFlags.getId(ChangeBlockEvent.class);
+    @SuppressWarnings("ConstantConditions")
+    private static final BlockState AIR = BlockTypes.AIR.getDefaultState();
+
+    private BulkBlockTransfer() {
+    }
+
+    /**
+     * Copies the buffer in to the world, with the buffer origin at the given
+     * world position, if the bulk copy is possible.
+     *
+     * @param buffer The buffer to copy
+     * @param world The target world
+     * @param origin The world position of the buffer origin
+     * @param flag The block change flag
+     * @return False if nothing was copied and the caller has to set the blocks
+     *     individually instead
+     */
+    public static boolean tryCopy(ArrayMutableBlockBuffer buffer, World world, Vector3i origin, BlockChangeFlag flag) {
+        if (!(world instanceof WorldServer) || flag.updateNeighbors() || flag.performBlockPhysics() || flag.notifyObservers()
+                || EventListenerFlags.hasListeners(CHANGE_BLOCK_EVENT)) {
+            return false;
+        }
+        final Vector3i min = buffer.getBlockMin().add(origin);
+        final Vector3i max = buffer.getBlockMax().add(origin);
+        if (min.getY() < 0 || max.getY() > 255) {
+            // Let the regular path report the out of bounds positions
+            return false;
+        }
+        final WorldServer worldServer = (WorldServer) world;
+        final boolean notifyClients = ((SpongeBlockChangeFlag) flag).isNotifyClients();
+        final BlockPalette palette = buffer.getPalette();
+        final ArrayMutableBlockBuffer.BackingData data = buffer.getBackingData();
+        // Resolved lazily, global palettes have far more ids than a buffer uses
+        IBlockState[] remapped = new IBlockState[palette.getHighestId() + 1];
+        final IBlockState[] section = new IBlockState[4096];
+        final List<BlockPos> deferred = new ArrayList<>();
+        final List<BlockPos> lightChecks = new ArrayList<>();
+
+        for (int cx = min.getX() >> 4; cx <= max.getX() >> 4; cx++) {
+            for (int cz = min.getZ() >> 4; cz <= max.getZ() >> 4; cz++) {
+                final Chunk chunk = worldServer.getChunkFromChunkCoords(cx, cz);
+                int changedSections = 0;
+                for (int sy = min.getY() >> 4; sy <= max.getY() >> 4; sy++) {
+                    Arrays.fill(section, null);
+                    final int xStart = Math.max(min.getX(), cx << 4);
+                    final int xEnd = Math.min(max.getX(), (cx << 4) + 15);
+                    final int yStart = Math.max(min.getY(), sy << 4);
+                    final int yEnd = Math.min(max.getY(), (sy << 4) + 15);
+                    final int zStart = Math.max(min.getZ(), cz << 4);
+                    final int zEnd = Math.min(max.getZ(), (cz << 4) + 15);
+                    for (int y = yStart; y <= yEnd; y++) {
+                        for (int z = zStart; z <= zEnd; z++) {
+                            for (int x = xStart; x <= xEnd; x++) {
+                                final int id = data.get(buffer.getIndex(x - origin.getX(), y - origin.getY(), z - origin.getZ()));
+                                if (id >= remapped.length) {
+                                    remapped = Arrays.copyOf(remapped, id + 1);
+                                }
+                                IBlockState newState = remapped[id];
+                                if (newState == null) {
+                                    newState = remapped[id] = (IBlockState) palette.get(id).orElse(AIR);
+                                }
+                                final IBlockState currentState = chunk.getBlockState(x, y, z);
+                                if (currentState == newState) {
+                                    continue;
+                                }
+                                if (SpongeImplHooks.hasBlockTileEntity(currentState.getBlock(), currentState)
+                                        || SpongeImplHooks.hasBlockTileEntity(newState.getBlock(), newState)) {
+                                    deferred.add(new BlockPos(x, y, z));
+                                    continue;
+                                }
+                                if (currentState.getLightValue() != newState.getLightValue()) {
+                                    lightChecks.add(new BlockPos(x, y, z));
+                                }
+                                section[(y & 15) << 8 | (z & 15) << 4 | (x & 15)] = newState;
+                            }
+                        }
+                    }
+                    if (((IMixinChunk) chunk).setSectionBlockStates(sy, section)) {
+                        changedSections |= 1 << sy;
+                    }
+                }
+                if (changedSections == 0) {
+                    continue;
+                }
+                chunk.generateSkylightMap();
+                // Block light blocked or exposed by the change is fixed gradually by the relight checks
+                chunk.resetRelightChecks();
+                chunk.markDirty();
+                for (BlockPos pos : lightChecks) {
+                    worldServer.checkLight(pos);
+                }
+                lightChecks.clear();
+                if (notifyClients) {
+                    final PlayerChunkMapEntry entry = worldServer.getPlayerChunkMap().getEntry(cx, cz);
+                    if (entry != null && entry.isSentToPlayers()) {
+                        entry.sendPacket(new SPacketChunkData(chunk, changedSections));
+                    }
+                }
+            }
+        }
+
+        for (BlockPos pos : deferred) {
+            world.setBlock(pos.getX(), pos.getY(), pos.getZ(), buffer.getBlock(pos.getX() - origin.getX(), pos.getY() - origin.getY(),
+                    pos.getZ() - origin.getZ()), flag);
+        }
+        return true;
+    }
+
+}
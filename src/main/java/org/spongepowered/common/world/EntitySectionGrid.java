@@ -0,0 +1,209 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
+import org.spongepowered.common.interfaces.entity.IMixinGridEntity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Indexes the entities of one chunk section in a grid of 4x4x4 block cells,
+ * so that bounding box queries only have to look at the entities of the
+ * cells they overlap.
+ *
+ * <p>Entities are indexed by the center of their bounding box. Centers
+ * outside the section, which happen while an entity has not been moved to
+ * the section it wandered into yet, are clamped to the nearest cell, and
+ * queries are grown by the largest entity extent seen in the section, so a
+ * query never misses an entity whose bounding box it intersects.</p>
+ */
+public final class EntitySectionGrid {
+
+    /**
+     * The amount of entities a section needs before queries use the grid
+     * rather than scanning the whole section.
+     */
+    public static final int MIN_ENTITIES = 16;
+
+    private static final int CELL_SHIFT = 2;
+    private static final int CELLS_PER_AXIS = 4;
+    private static final int MAX_CELL = CELLS_PER_AXIS - 1;
+
+    private final int originX;
+    private final int originY;
+    private final int originZ;
+    @SuppressWarnings("unchecked")
+    private final List<Entity>[] cells = new List[CELLS_PER_AXIS * CELLS_PER_AXIS * CELLS_PER_AXIS];
+    private int size;
+    private double maxHalfWidth;
+    private double maxHalfHeight;
+
+    public EntitySectionGrid(int chunkX, int sectionY, int chunkZ) {
+        this.originX = chunkX << 4;
+        this.originY = sectionY << 4;
+        this.originZ = chunkZ << 4;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public void add(Entity entity) {
+        final IMixinGridEntity gridEntity = (IMixinGridEntity) entity;
+        final EntitySectionGrid previous = gridEntity.getEntityGrid();
+        if (previous == this) {
+            return;
+        }
+        if (previous != null) {
+            previous.remove(entity);
+        }
+        final AxisAlignedBB box = entity.getEntityBoundingBox();
+        this.growExtents(box);
+        final int cell = this.cellOf(box);
+        this.getOrCreateCell(cell).add(entity);
+        gridEntity.setEntityGrid(this, cell);
+        this.size++;
+    }
+
+    public void remove(Entity entity) {
+        final IMixinGridEntity gridEntity = (IMixinGridEntity) entity;
+        if (gridEntity.getEntityGrid() != this) {
+            return;
+        }
+        final List<Entity> cell = this.cells[gridEntity.getEntityGridCell()];
+        if (cell != null) {
+            cell.remove(entity);
+        }
+        gridEntity.setEntityGrid(null, -1);
+        if (--this.size == 0) {
+            this.maxHalfWidth = 0;
+            this.maxHalfHeight = 0;
+        }
+    }
+
+    /**
+     * Moves an entity to the cell of its current bounding box, called
+     * whenever the bounding box of an entity in this grid changes.
+     *
+     * @param entity The entity
+     */
+    public void update(Entity entity) {
+        final IMixinGridEntity gridEntity = (IMixinGridEntity) entity;
+        final AxisAlignedBB box = entity.getEntityBoundingBox();
+        this.growExtents(box);
+        final int oldCell = gridEntity.getEntityGridCell();
+        final int newCell = this.cellOf(box);
+        if (oldCell == newCell) {
+            return;
+        }
+        final List<Entity> cell = this.cells[oldCell];
+        if (cell != null) {
+            cell.remove(entity);
+        }
+        this.getOrCreateCell(newCell).add(entity);
+        gridEntity.setEntityGrid(this, newCell);
+    }
+
+    /**
+     * Gets the entities of every cell that may hold an entity intersecting
+     * the given box. The caller still has to test each entity's bounding box.
+     *
+     * @param box The query box
+     * @return The candidate entities
+     */
+    public List<Entity> getCandidates(AxisAlignedBB box) {
+        final int minX = this.cellX(box.minX - this.maxHalfWidth);
+        final int maxX = this.cellX(box.maxX + this.maxHalfWidth);
+        final int minY = this.cellY(box.minY - this.maxHalfHeight);
+        final int maxY = this.cellY(box.maxY + this.maxHalfHeight);
+        final int minZ = this.cellZ(box.minZ - this.maxHalfWidth);
+        final int maxZ = this.cellZ(box.maxZ + this.maxHalfWidth);
+        List<Entity> candidates = null;
+        for (int y = minY; y <= maxY; y++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int x = minX; x <= maxX; x++) {
+                    final List<Entity> cell = this.cells[index(x, y, z)];
+                    if (cell == null || cell.isEmpty()) {
+                        continue;
+                    }
+                    if (candidates == null) {
+                        candidates = new ArrayList<>(cell.size());
+                    }
+                    candidates.addAll(cell);
+                }
+            }
+        }
+        return candidates == null ? Collections.emptyList() : candidates;
+    }
+
+    private void growExtents(AxisAlignedBB box) {
+        final double halfWidth = Math.max(box.maxX - box.minX, box.maxZ - box.minZ) / 2.0D;
+        final double halfHeight = (box.maxY - box.minY) / 2.0D;
+        if (halfWidth > this.maxHalfWidth) {
+            this.maxHalfWidth = halfWidth;
+        }
+        if (halfHeight > this.maxHalfHeight) {
+            this.maxHalfHeight = halfHeight;
+        }
+    }
+
+    private List<Entity> getOrCreateCell(int index) {
+        List<Entity> cell = this.cells[index];
+        if (cell == null) {
+            cell = new ArrayList<>(4);
+            this.cells[index] = cell;
+        }
+        return cell;
+    }
+
+    private int cellOf(AxisAlignedBB box) {
+        return index(this.cellX((box.minX + box.maxX) / 2.0D), this.cellY((box.minY + box.maxY) / 2.0D), this.cellZ((box.minZ + box.maxZ) / 2.0D));
+    }
+
+    private int cellX(double x) {
+        return clampCell(MathHelper.floor(x) - this.originX);
+    }
+
+    private int cellY(double y) {
+        return clampCell(MathHelper.floor(y) - this.originY);
+    }
+
+    private int cellZ(double z) {
+        return clampCell(MathHelper.floor(z) - this.originZ);
+    }
+
+    private static int clampCell(int local) {
+        return local < 0 ? 0 : local >= 16 ? MAX_CELL : local >> CELL_SHIFT;
+    }
+
+    private static int index(int x, int y, int z) {
+        return (y * CELLS_PER_AXIS + z) * CELLS_PER_AXIS + x;
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Object2FloatOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.EntityTNTPrimed;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.Explosion;
+import net.minecraft.world.World;
+
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * Per-world, per-tick caches used by the optimized explosion engine.
+ *
+ * <p>Everything cached here is discarded as soon as the owning world moves on
+ * to the next tick. Within a tick, block resistance is cached by packed
+ * position and validated against the current block state, entity exposure is
+ * cached by explosion origin and entity bounding box, and explosions sharing
+ * an origin and size with an earlier explosion that affected no blocks reuse
+ * that (empty) result instead of casting their rays again. The latter two
+ * ignore block changes made by other explosions during the same tick, which
+ * is why the engine is opt-in.</p>
+ */
+public final class ExplosionCache {
+
+    private static final int RAYS_PER_AXIS = 16;
+    private static final int TRIM_THRESHOLD = 4096;
+
+    private static final Map<World, ExplosionCache> caches = new WeakHashMap<>();
+
+    /**
+     * Gets the cache of the given world, clearing it first if the world has
+     * advanced a tick since it was last used.
+     *
+     * @param world The world
+     * @return The cache for the current tick
+     */
+    public static ExplosionCache get(World world) {
+        ExplosionCache cache = caches.get(world);
+        if (cache == null) {
+            cache = new ExplosionCache();
+            caches.put(world, cache);
+        }
+        cache.checkTick(world.getTotalWorldTime());
+        return cache;
+    }
+
+    private final Long2ObjectOpenHashMap<CachedResistance> resistances = new Long2ObjectOpenHashMap<>();
+    private final Object2FloatOpenHashMap<ExposureKey> exposures = new Object2FloatOpenHashMap<>();
+    private final ObjectOpenHashSet<Origin> emptyOrigins = new ObjectOpenHashSet<>();
+    private final LongOpenHashSet affected = new LongOpenHashSet();
+    private long tick = Long.MIN_VALUE;
+
+    private ExplosionCache() {
+    }
+
+    private void checkTick(long worldTime) {
+        if (this.tick == worldTime) {
+            return;
+        }
+        this.tick = worldTime;
+        if (this.resistances.size() > TRIM_THRESHOLD) {
+            this.resistances.clear();
+            this.resistances.trim();
+        } else {
+            this.resistances.clear();
+        }
+        if (this.exposures.size() > TRIM_THRESHOLD) {
+            this.exposures.clear();
+            this.exposures.trim();
+        } else {
+            this.exposures.clear();
+        }
+        this.emptyOrigins.clear();
+    }
+
+    /**
+     * Casts the rays of the given explosion and adds every destroyed block to
+     * the output list. Mirrors the vanilla ray casting of
+     * {@link Explosion#doExplosionA()} but tracks positions as packed longs
+     * and only looks up a block again when a ray steps into a new one.
+     *
+     * @param explosion The explosion
+     * @param world The world being exploded in
+     * @param exploder The exploding entity, if any
+     * @param x The x origin
+     * @param y The y origin
+     * @param z The z origin
+     * @param size The explosion size
+     * @param out The list receiving the affected positions
+     */
+    public void collectAffectedBlocks(Explosion explosion, World world, @Nullable Entity exploder, double x, double y, double z,
+            float size, List<BlockPos> out) {
+        // Only resistance that does not depend on the exploder itself can be shared between explosions
+        final boolean shareable = exploder == null || exploder.getClass() == EntityTNTPrimed.class;
+        final Origin origin = shareable ? new Origin(x, y, z, size) : null;
+        if (origin != null && this.emptyOrigins.contains(origin)) {
+            return;
+        }
+
+        final LongOpenHashSet affected = this.affected;
+        affected.clear();
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+
+        for (int j = 0; j < RAYS_PER_AXIS; ++j) {
+            for (int k = 0; k < RAYS_PER_AXIS; ++k) {
+                for (int l = 0; l < RAYS_PER_AXIS; ++l) {
+                    if (j != 0 && j != 15 && k != 0 && k != 15 && l != 0 && l != 15) {
+                        continue;
+                    }
+                    double d0 = (double) ((float) j / 15.0F * 2.0F - 1.0F);
+                    double d1 = (double) ((float) k / 15.0F * 2.0F - 1.0F);
+                    double d2 = (double) ((float) l / 15.0F * 2.0F - 1.0F);
+                    final double d3 = Math.sqrt(d0 * d0 + d1 * d1 + d2 * d2);
+                    d0 = d0 / d3;
+                    d1 = d1 / d3;
+                    d2 = d2 / d3;
+                    float f = size * (0.7F + world.rand.nextFloat() * 0.6F);
+                    double d4 = x;
+                    double d6 = y;
+                    double d8 = z;
+
+                    long lastPos = 0;
+                    boolean hasLast = false;
+                    IBlockState state = null;
+                    float resistance = -1.0F;
+
+                    for (; f > 0.0F; f -= 0.22500001F) {
+                        pos.setPos(d4, d6, d8);
+                        final long packed = pos.toLong();
+                        if (!hasLast || packed != lastPos) {
+                            state = world.getBlockState(pos);
+                            resistance = state.getMaterial() == Material.AIR
+                                         ? -1.0F
+                                         : this.getResistance(explosion, world, exploder, shareable, pos, packed, state);
+                            lastPos = packed;
+                            hasLast = true;
+                        }
+
+                        if (resistance >= 0.0F) {
+                            f -= (resistance + 0.3F) * 0.3F;
+                        }
+
+                        if (f > 0.0F && !affected.contains(packed) && (exploder == null
+                                || exploder.canExplosionDestroyBlock(explosion, world, pos.toImmutable(), state, f))) {
+                            affected.add(packed);
+                        }
+
+                        d4 += d0 * 0.30000001192092896D;
+                        d6 += d1 * 0.30000001192092896D;
+                        d8 += d2 * 0.30000001192092896D;
+                    }
+                }
+            }
+        }
+
+        if (affected.isEmpty()) {
+            if (origin != null) {
+                this.emptyOrigins.add(origin);
+            }
+            return;
+        }
+        for (LongIterator iterator = affected.iterator(); iterator.hasNext(); ) {
+            out.add(BlockPos.fromLong(iterator.nextLong()));
+        }
+        affected.clear();
+    }
+
+    private float getResistance(Explosion explosion, World world, @Nullable Entity exploder, boolean shareable, BlockPos.MutableBlockPos pos,
+            long packed, IBlockState state) {
+        if (!shareable) {
+            return exploder.getExplosionResistance(explosion, world, pos.toImmutable(), state);
+        }
+        final CachedResistance cached = this.resistances.get(packed);
+        if (cached != null && cached.state == state) {
+            return cached.resistance;
+        }
+        final float resistance = exploder != null
+                                 ? exploder.getExplosionResistance(explosion, world, pos.toImmutable(), state)
+                                 : state.getBlock().getExplosionResistance((Entity) null);
+        this.resistances.put(packed, new CachedResistance(state, resistance));
+        return resistance;
+    }
+
+    /**
+     * Gets the exposure of a bounding box to an explosion, as computed by
+     * {@link World#getBlockDensity(Vec3d, AxisAlignedBB)}, reusing the result
+     * of an earlier call this tick with the same origin and bounding box.
+     *
+     * @param world The world
+     * @param origin The explosion origin
+     * @param box The entity bounding box
+     * @return The exposure, between 0 and 1
+     */
+    public float getBlockDensity(World world, Vec3d origin, AxisAlignedBB box) {
+        final ExposureKey key = new ExposureKey(origin, box);
+        if (this.exposures.containsKey(key)) {
+            return this.exposures.getFloat(key);
+        }
+        final float density = world.getBlockDensity(origin, box);
+        this.exposures.put(key, density);
+        return density;
+    }
+
+    private static final class CachedResistance {
+
+        final IBlockState state;
+        final float resistance;
+
+        CachedResistance(IBlockState state, float resistance) {
+            this.state = state;
+            this.resistance = resistance;
+        }
+    }
+
+    private static final class Origin {
+
+        private final double x;
+        private final double y;
+        private final double z;
+        private final float size;
+        private final int hash;
+
+        Origin(double x, double y, double z, float size) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.size = size;
+            int hash = Double.hashCode(x);
+            hash = 31 * hash + Double.hashCode(y);
+            hash = 31 * hash + Double.hashCode(z);
+            this.hash = 31 * hash + Float.hashCode(size);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Origin)) {
+                return false;
+            }
+            final Origin other = (Origin) obj;
+            return this.x == other.x && this.y == other.y && this.z == other.z && this.size == other.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    private static final class ExposureKey {
+
+        private final double x;
+        private final double y;
+        private final double z;
+        private final double minX;
+        private final double minY;
+        private final double minZ;
+        private final double maxX;
+        private final double maxY;
+        private final double maxZ;
+        private final int hash;
+
+        ExposureKey(Vec3d origin, AxisAlignedBB box) {
+            this.x = origin.x;
+            this.y = origin.y;
+            this.z = origin.z;
+            this.minX = box.minX;
+            this.minY = box.minY;
+            this.minZ = box.minZ;
+            this.maxX = box.maxX;
+            this.maxY = box.maxY;
+            this.maxZ = box.maxZ;
+            int hash = Double.hashCode(this.x);
+            hash = 31 * hash + Double.hashCode(this.y);
+            hash = 31 * hash + Double.hashCode(this.z);
+            hash = 31 * hash + Double.hashCode(this.minX);
+            hash = 31 * hash + Double.hashCode(this.minY);
+            hash = 31 * hash + Double.hashCode(this.minZ);
+            hash = 31 * hash + Double.hashCode(this.maxX);
+            hash = 31 * hash + Double.hashCode(this.maxY);
+            this.hash = 31 * hash + Double.hashCode(this.maxZ);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ExposureKey)) {
+                return false;
+            }
+            final ExposureKey other = (ExposureKey) obj;
+            return this.x == other.x && this.y == other.y && this.z == other.z
+                   && this.minX == other.minX && this.minY == other.minY && this.minZ == other.minZ
+                   && this.maxX == other.maxX && this.maxY == other.maxY && this.maxZ == other.maxZ;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
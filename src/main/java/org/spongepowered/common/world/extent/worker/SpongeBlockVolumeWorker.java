@@ -40,18 +40,63 @@
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeVisitor;
 import org.spongepowered.common.event.tracking.phase.plugin.BasicPluginContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.util.gen.AbstractBlockBuffer;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
+import java.util.stream.IntStream;
 
 /**
  *
  */
 public class SpongeBlockVolumeWorker<V extends BlockVolume> implements BlockVolumeWorker<V> {
 
+    /**
+     * Whether workers created without an explicit mode run in parallel, see
+     * {@link #parallel()}. Enabled with {@code -Dsponge.parallelBlockWorkers=true},
+     * which requires all procedures given to block workers by plugins to be
+     * safe to call concurrently.
+     */
+    public static final boolean PARALLEL_BY_DEFAULT = Boolean.parseBoolean(System.getProperty("sponge.parallelBlockWorkers", "false"));
+
     protected final V volume;
+    protected final boolean parallel;
 
     public SpongeBlockVolumeWorker(V volume) {
+        this(volume, PARALLEL_BY_DEFAULT);
+    }
+
+    public SpongeBlockVolumeWorker(V volume, boolean parallel) {
         this.volume = volume;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Gets a worker for the same volume which splits its operations in to
+     * slabs of constant z and processes those on the common fork join pool.
+     *
+     * <p>This only applies if all read volumes are in memory buffers, world
+     * backed volumes are always processed serially. The procedures must be
+     * safe to call concurrently and the merge function of reductions must be
+     * associative. Blocks are still written to the destination by the calling
+     * thread, so no destination has to be thread safe.</p>
+     *
+     * @return The parallel worker
+     */
+    public SpongeBlockVolumeWorker<V> parallel() {
+        return new SpongeBlockVolumeWorker<>(this.volume, true);
+    }
+
+    protected boolean canProcessInParallel(BlockVolume... sources) {
+        if (!this.parallel) {
+            return false;
+        }
+        for (BlockVolume source : sources) {
+            if (!(source instanceof AbstractBlockBuffer)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -76,6 +121,11 @@ public void map(BlockVolumeMapper mapper, MutableBlockVolume destination) {
         try (BasicPluginContext phaseState = PluginPhase.State.BLOCK_WORKER.createPhaseContext()
             .source(this)
             .buildAndSwitch()) {
+            if (canProcessInParallel(this.volume)) {
+                produceInParallel(xMin, yMin, zMin, xMax, yMax, zMax, (x, y, z) -> mapper.map(unmodifiableVolume, x, y, z),
+                    destination, xOffset, yOffset, zOffset);
+                return;
+            }
             for (int z = zMin; z <= zMax; z++) {
                 for (int y = yMin; y <= yMax; y++) {
                     for (int x = xMin; x <= xMax; x++) {
@@ -109,6 +159,12 @@ public void merge(BlockVolume second, BlockVolumeMerger merger, MutableBlockVolu
         try (BasicPluginContext context = PluginPhase.State.BLOCK_WORKER.createPhaseContext()
             .source(this)
             .buildAndSwitch()) {
+            if (canProcessInParallel(this.volume, second)) {
+                produceInParallel(xMin, yMin, zMin, xMax, yMax, zMax, (x, y, z) -> merger.merge(firstUnmodifiableVolume, x, y, z,
+                    secondUnmodifiableVolume, x + xOffsetSecond, y + yOffsetSecond, z + zOffsetSecond),
+                    destination, xOffsetDestination, yOffsetDestination, zOffsetDestination);
+                return;
+            }
             for (int z = zMin; z <= zMax; z++) {
                 for (int y = yMin; y <= yMax; y++) {
                     for (int x = xMin; x <= xMax; x++) {
@@ -152,6 +208,23 @@ public <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T
         final int xMax = unmodifiableVolume.getBlockMax().getX();
         final int yMax = unmodifiableVolume.getBlockMax().getY();
         final int zMax = unmodifiableVolume.getBlockMax().getZ();
+        if (canProcessInParallel(this.volume)) {
+            // Each slab is reduced on its own, the ordered stream then
+            // merges the slab results in the same order as the serial loop
+            return IntStream.rangeClosed(zMin, zMax)
+                .parallel()
+                .mapToObj(z -> {
+                    T slabReduction = identity;
+                    for (int y = yMin; y <= yMax; y++) {
+                        for (int x = xMin; x <= xMax; x++) {
+                            slabReduction = reducer.reduce(unmodifiableVolume, x, y, z, slabReduction);
+                        }
+                    }
+                    return slabReduction;
+                })
+                .reduce(merge::apply)
+                .orElse(identity);
+        }
         T reduction = identity;
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
@@ -163,6 +236,46 @@ public <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T
         return reduction;
     }
 
+    /**
+     * Computes the blocks of batches of z slabs in parallel, then writes
+     * them to the destination from the calling thread.
+     */
+    protected static void produceInParallel(int xMin, int yMin, int zMin, int xMax, int yMax, int zMax, BlockProducer producer,
+        MutableBlockVolume destination, int xOffset, int yOffset, int zOffset) {
+        final int slabSize = (xMax - xMin + 1) * (yMax - yMin + 1);
+        final int batchSize = Math.min(zMax - zMin + 1, Math.max(1, ForkJoinPool.getCommonPoolParallelism()));
+        final BlockState[][] slabs = new BlockState[batchSize][slabSize];
+        for (int zStart = zMin; zStart <= zMax; zStart += batchSize) {
+            final int batchStart = zStart;
+            final int zEnd = Math.min(zMax, zStart + batchSize - 1);
+            IntStream.rangeClosed(batchStart, zEnd).parallel().forEach(z -> {
+                final BlockState[] slab = slabs[z - batchStart];
+                int i = 0;
+                for (int y = yMin; y <= yMax; y++) {
+                    for (int x = xMin; x <= xMax; x++) {
+                        slab[i++] = producer.produce(x, y, z);
+                    }
+                }
+            });
+            for (int z = batchStart; z <= zEnd; z++) {
+                final BlockState[] slab = slabs[z - batchStart];
+                int i = 0;
+                for (int y = yMin; y <= yMax; y++) {
+                    for (int x = xMin; x <= xMax; x++) {
+                        destination.setBlock(x + xOffset, y + yOffset, z + zOffset, slab[i++]);
+                    }
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    protected interface BlockProducer {
+
+        BlockState produce(int x, int y, int z);
+
+    }
+
     private Vector3i align(BlockVolume other) {
         final Vector3i thisSize = this.volume.getBlockSize();
         final Vector3i otherSize = other.getBlockSize();
@@ -38,6 +38,15 @@ public SpongeMutableBlockVolumeWorker(V volume) {
         super(volume);
     }
 
+    public SpongeMutableBlockVolumeWorker(V volume, boolean parallel) {
+        super(volume, parallel);
+    }
+
+    @Override
+    public SpongeMutableBlockVolumeWorker<V> parallel() {
+        return new SpongeMutableBlockVolumeWorker<>(this.volume, true);
+    }
+
     @Override
     public void fill(BlockVolumeFiller filler) {
         final int xMin = this.volume.getBlockMin().getX();
@@ -46,6 +55,11 @@ public void fill(BlockVolumeFiller filler) {
         final int xMax = this.volume.getBlockMax().getX();
         final int yMax = this.volume.getBlockMax().getY();
         final int zMax = this.volume.getBlockMax().getZ();
+        if (this.parallel) {
+            // The filler doesn't read the volume, so any volume can be filled in parallel
+            produceInParallel(xMin, yMin, zMin, xMax, yMax, zMax, filler::produce, this.volume, 0, 0, 0);
+            return;
+        }
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
                 for (int x = xMin; x <= xMax; x++) {
@@ -0,0 +1,264 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.light;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.SpongeImplHooks;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Processes all pending light updates of a chunk in one pass.
+ *
+ * <p>The chunk and its neighbours are resolved once into a 3x3 array so
+ * every block lookup is an index calculation, positions are queued as
+ * packed ints relative to the updated block, and a single mutable position
+ * is reused for all chunk accesses. An engine is bound to one thread and
+ * must be released with {@link #end()} after use.</p>
+ */
+public final class BatchLightEngine {
+
+    private static final ThreadLocal<BatchLightEngine> ENGINES = ThreadLocal.withInitial(BatchLightEngine::new);
+    private static final EnumFacing[] FACINGS = EnumFacing.values();
+    private static final int MAX_DISTANCE = 17;
+    private static final int QUEUE_SIZE = 32768;
+
+    private final Chunk[] chunks = new Chunk[9];
+    private final int[] queue = new int[QUEUE_SIZE];
+    private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+    @Nullable private World world;
+    private EnumSkyBlock lightType = EnumSkyBlock.BLOCK;
+    private int centerChunkX;
+    private int centerChunkZ;
+
+    public static BatchLightEngine get() {
+        return ENGINES.get();
+    }
+
+    private BatchLightEngine() {
+    }
+
+    /**
+     * Binds this engine to a chunk and its neighbours.
+     *
+     * @param world The world of the chunk
+     * @param lightType The type of light to update
+     * @param chunk The chunk to update
+     * @param neighbors The loaded neighbours of the chunk, including diagonals
+     */
+    public void begin(World world, EnumSkyBlock lightType, Chunk chunk, List<Chunk> neighbors) {
+        this.world = world;
+        this.lightType = lightType;
+        this.centerChunkX = chunk.x;
+        this.centerChunkZ = chunk.z;
+        this.chunks[4] = chunk;
+        for (int i = 0; i < neighbors.size(); i++) {
+            final Chunk neighbor = neighbors.get(i);
+            final int index = this.getChunkIndex(neighbor.x, neighbor.z);
+            if (index >= 0) {
+                this.chunks[index] = neighbor;
+            }
+        }
+    }
+
+    /**
+     * Releases the chunks bound by {@link #begin}.
+     */
+    public void end() {
+        Arrays.fill(this.chunks, null);
+        this.world = null;
+    }
+
+    /**
+     * Rechecks the light of a block and propagates any change to the
+     * surrounding blocks, like {@link World#checkLightFor}.
+     *
+     * @param originX The x position of the block
+     * @param originY The y position of the block
+     * @param originZ The z position of the block
+     */
+    public void checkLight(int originX, int originY, int originZ) {
+        int queueStart = 0;
+        int queueEnd = 0;
+        final int current = this.getLight(originX, originY, originZ);
+        final int raw = this.getRawLight(originX, originY, originZ);
+
+        if (raw > current) {
+            this.queue[queueEnd++] = 133152;
+        } else if (raw < current) {
+            this.queue[queueEnd++] = 133152 | current << 18;
+
+            while (queueStart < queueEnd) {
+                final int entry = this.queue[queueStart++];
+                final int x = (entry & 63) - 32 + originX;
+                final int y = (entry >> 6 & 63) - 32 + originY;
+                final int z = (entry >> 12 & 63) - 32 + originZ;
+                final int level = entry >> 18 & 15;
+
+                if (this.getLight(x, y, z) == level) {
+                    this.setLight(x, y, z, 0);
+
+                    if (level > 0 && Math.abs(x - originX) + Math.abs(y - originY) + Math.abs(z - originZ) < MAX_DISTANCE) {
+                        for (EnumFacing facing : FACINGS) {
+                            final int offsetX = x + facing.getFrontOffsetX();
+                            final int offsetY = y + facing.getFrontOffsetY();
+                            final int offsetZ = z + facing.getFrontOffsetZ();
+                            final Chunk chunk = this.getChunk(offsetX, offsetZ);
+                            if (chunk == null) {
+                                continue;
+                            }
+                            final int opacity = Math.max(1, chunk.getBlockState(this.pos.setPos(offsetX, offsetY, offsetZ)).getLightOpacity());
+                            if (this.getLight(offsetX, offsetY, offsetZ) == level - opacity && queueEnd < this.queue.length) {
+                                this.queue[queueEnd++] = offsetX - originX + 32 | offsetY - originY + 32 << 6 | offsetZ - originZ + 32 << 12
+                                        | level - opacity << 18;
+                            }
+                        }
+                    }
+                }
+            }
+
+            queueStart = 0;
+        }
+
+        while (queueStart < queueEnd) {
+            final int entry = this.queue[queueStart++];
+            final int x = (entry & 63) - 32 + originX;
+            final int y = (entry >> 6 & 63) - 32 + originY;
+            final int z = (entry >> 12 & 63) - 32 + originZ;
+            final int light = this.getLight(x, y, z);
+            final int rawLight = this.getRawLight(x, y, z);
+
+            if (rawLight != light) {
+                this.setLight(x, y, z, rawLight);
+
+                if (rawLight > light && Math.abs(x - originX) + Math.abs(y - originY) + Math.abs(z - originZ) < MAX_DISTANCE
+                        && queueEnd < this.queue.length - 6) {
+                    for (EnumFacing facing : FACINGS) {
+                        final int offsetX = x + facing.getFrontOffsetX();
+                        final int offsetY = y + facing.getFrontOffsetY();
+                        final int offsetZ = z + facing.getFrontOffsetZ();
+                        if (this.getLight(offsetX, offsetY, offsetZ) < rawLight) {
+                            this.queue[queueEnd++] = offsetX - originX + 32 + (offsetY - originY + 32 << 6) + (offsetZ - originZ + 32 << 12);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private int getChunkIndex(int chunkX, int chunkZ) {
+        final int offsetX = chunkX - this.centerChunkX + 1;
+        final int offsetZ = chunkZ - this.centerChunkZ + 1;
+        if (offsetX < 0 || offsetX > 2 || offsetZ < 0 || offsetZ > 2) {
+            return -1;
+        }
+        return offsetX * 3 + offsetZ;
+    }
+
+    @Nullable
+    private Chunk getChunk(int x, int z) {
+        final int index = this.getChunkIndex(x >> 4, z >> 4);
+        if (index < 0) {
+            return null;
+        }
+        final Chunk chunk = this.chunks[index];
+        if (chunk == null || chunk.unloadQueued) {
+            return null;
+        }
+        return chunk;
+    }
+
+    private int getLight(int x, int y, int z) {
+        if (y < 0) {
+            y = 0;
+        } else if (y >= 256) {
+            return this.lightType.defaultLightValue;
+        }
+        final Chunk chunk = this.getChunk(x, z);
+        if (chunk == null) {
+            return this.lightType.defaultLightValue;
+        }
+        return chunk.getLightFor(this.lightType, this.pos.setPos(x, y, z));
+    }
+
+    private int getRawLight(int x, int y, int z) {
+        final Chunk chunk = this.getChunk(x, z);
+        if (chunk == null) {
+            return this.lightType.defaultLightValue;
+        }
+        this.pos.setPos(x, y, z);
+        if (this.lightType == EnumSkyBlock.SKY && chunk.canSeeSky(this.pos)) {
+            return 15;
+        }
+
+        final IBlockState blockState = chunk.getBlockState(this.pos);
+        final int blockLight = SpongeImplHooks.getChunkPosLight(blockState, this.world, this.pos);
+        int light = this.lightType == EnumSkyBlock.SKY ? 0 : blockLight;
+        int opacity = SpongeImplHooks.getBlockLightOpacity(blockState, this.world, this.pos);
+
+        if (opacity >= 15 && blockLight > 0) {
+            opacity = 1;
+        }
+        if (opacity < 1) {
+            opacity = 1;
+        }
+        if (opacity >= 15) {
+            return 0;
+        }
+        if (light >= 14) {
+            return light;
+        }
+
+        for (EnumFacing facing : FACINGS) {
+            final int neighborLight = this.getLight(x + facing.getFrontOffsetX(), y + facing.getFrontOffsetY(), z + facing.getFrontOffsetZ()) - opacity;
+            if (neighborLight > light) {
+                light = neighborLight;
+            }
+            if (light >= 14) {
+                return light;
+            }
+        }
+        return light;
+    }
+
+    private void setLight(int x, int y, int z, int value) {
+        if (y < 0 || y >= 256) {
+            return;
+        }
+        final Chunk chunk = this.getChunk(x, z);
+        if (chunk != null) {
+            chunk.setLightFor(this.lightType, this.pos.setPos(x, y, z), value);
+            this.world.notifyLightSet(this.pos);
+        }
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.light;
+
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.SpongeImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+/**
+ * A bounded lighting executor shared by all worlds.
+ *
+ * <p>Work is partitioned by region (32x32 chunks) so updates for the same
+ * area are processed by the same worker, while idle workers steal from the
+ * back of busy workers' queues. Duplicate tasks for the same chunk are
+ * coalesced, tasks for chunks queued for unload are dropped and, once the
+ * queue is full, producers run their task themselves instead of growing
+ * the queue.</p>
+ */
+public final class SpongeLightingScheduler extends AbstractExecutorService {
+
+    private static final int REGION_SHIFT = 5;
+    private static final long IDLE_WAIT_MILLIS = 10;
+
+    @Nullable private static SpongeLightingScheduler instance;
+
+    private final Worker[] workers;
+    private final int capacity;
+    private final Set<LightingTask> pendingTasks = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger nextWorker = new AtomicInteger();
+    private volatile boolean shutdown;
+
+    // Metrics
+    private final AtomicInteger peakQueueDepth = new AtomicInteger();
+    private final AtomicLong submittedTasks = new AtomicLong();
+    private final AtomicLong coalescedTasks = new AtomicLong();
+    private final AtomicLong droppedTasks = new AtomicLong();
+    private final AtomicLong callerRunTasks = new AtomicLong();
+
+    /**
+     * Gets the shared scheduler, creating it from the global config if it
+     * does not exist or was shut down.
+     *
+     * @return The lighting scheduler
+     */
+    public static synchronized SpongeLightingScheduler getInstance() {
+        if (instance == null || instance.isShutdown()) {
+            final int threads = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncLightingCategory().getNumThreads();
+            final int capacity = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncLightingCategory().getMaxQueueSize();
+            instance = new SpongeLightingScheduler(threads, capacity);
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the shared scheduler without creating it.
+     *
+     * @return The lighting scheduler, or null if it isn't running
+     */
+    @Nullable
+    public static synchronized SpongeLightingScheduler getInstanceIfPresent() {
+        return instance == null || instance.isShutdown() ? null : instance;
+    }
+
+    public SpongeLightingScheduler(int threads, int capacity) {
+        this.workers = new Worker[Math.max(1, threads)];
+        this.capacity = Math.max(1, capacity);
+        for (int i = 0; i < this.workers.length; i++) {
+            this.workers[i] = new Worker(i);
+        }
+        for (Worker worker : this.workers) {
+            worker.start();
+        }
+    }
+
+    /**
+     * Schedules a lighting task for a chunk.
+     *
+     * <p>If an identical task (same chunk and key) is already queued, the
+     * task is coalesced and not queued again. If the chunk is queued for
+     * unload by the time the task runs, the task is dropped and
+     * {@code onDropped} is run instead.</p>
+     *
+     * @param chunk The chunk the task updates
+     * @param key A key identifying the task within the chunk
+     * @param task The task
+     * @param onDropped Cleanup to run if the task is dropped
+     * @return False if the task was coalesced with an already queued task
+     */
+    public boolean execute(Chunk chunk, long key, Runnable task, @Nullable Runnable onDropped) {
+        final int regionHash = 31 * (chunk.x >> REGION_SHIFT) + (chunk.z >> REGION_SHIFT);
+        final LightingTask lightingTask = new LightingTask(chunk, key, task, onDropped);
+        if (!this.pendingTasks.add(lightingTask)) {
+            this.coalescedTasks.incrementAndGet();
+            return false;
+        }
+        this.enqueue(lightingTask, Math.floorMod(regionHash, this.workers.length));
+        return true;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        this.enqueue(new LightingTask(null, 0, command, null), Math.floorMod(this.nextWorker.getAndIncrement(), this.workers.length));
+    }
+
+    private void enqueue(LightingTask task, int workerIndex) {
+        if (this.shutdown) {
+            this.pendingTasks.remove(task);
+            throw new RejectedExecutionException("Lighting scheduler has been shut down");
+        }
+
+        this.submittedTasks.incrementAndGet();
+        if (this.queueDepth.get() >= this.capacity) {
+            // Back-pressure, the producer does the work itself instead of growing the queue
+            this.callerRunTasks.incrementAndGet();
+            this.run(task);
+            return;
+        }
+
+        final int depth = this.queueDepth.incrementAndGet();
+        int peak;
+        while (depth > (peak = this.peakQueueDepth.get()) && !this.peakQueueDepth.compareAndSet(peak, depth)) {
+            // retry
+        }
+        this.workers[workerIndex].queue.offerLast(task);
+    }
+
+    private void run(LightingTask task) {
+        if (task.chunk != null) {
+            this.pendingTasks.remove(task);
+            if (task.chunk.unloadQueued) {
+                this.droppedTasks.incrementAndGet();
+                if (task.onDropped != null) {
+                    task.onDropped.run();
+                }
+                return;
+            }
+        }
+
+        try {
+            task.task.run();
+        } catch (Throwable t) {
+            SpongeImpl.getLogger().error("Exception while running lighting update", t);
+        }
+    }
+
+    @Nullable
+    private LightingTask steal(int thief) {
+        for (int i = 1; i < this.workers.length; i++) {
+            final LightingTask task = this.workers[(thief + i) % this.workers.length].queue.pollLast();
+            if (task != null) {
+                return task;
+            }
+        }
+        return null;
+    }
+
+    public int getQueueDepth() {
+        return this.queueDepth.get();
+    }
+
+    public int getPeakQueueDepth() {
+        return this.peakQueueDepth.get();
+    }
+
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    public long getSubmittedTasks() {
+        return this.submittedTasks.get();
+    }
+
+    public long getCoalescedTasks() {
+        return this.coalescedTasks.get();
+    }
+
+    public long getDroppedTasks() {
+        return this.droppedTasks.get();
+    }
+
+    public long getCallerRunTasks() {
+        return this.callerRunTasks.get();
+    }
+
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        this.shutdown = true;
+        final List<Runnable> remaining = new ArrayList<>();
+        for (Worker worker : this.workers) {
+            LightingTask task;
+            while ((task = worker.queue.pollFirst()) != null) {
+                this.queueDepth.decrementAndGet();
+                remaining.add(task.task);
+            }
+            worker.interrupt();
+        }
+        this.pendingTasks.clear();
+        return remaining;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return this.shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        if (!this.shutdown) {
+            return false;
+        }
+        for (Worker worker : this.workers) {
+            if (worker.isAlive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Worker worker : this.workers) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return this.isTerminated();
+            }
+            TimeUnit.NANOSECONDS.timedJoin(worker, remaining);
+        }
+        return this.isTerminated();
+    }
+
+    private final class Worker extends Thread {
+
+        final LinkedBlockingDeque<LightingTask> queue = new LinkedBlockingDeque<>();
+        private final int index;
+
+        Worker(int index) {
+            super("Sponge - Async Light Thread - " + index);
+            this.index = index;
+            this.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            final SpongeLightingScheduler scheduler = SpongeLightingScheduler.this;
+            while (true) {
+                LightingTask task = this.queue.pollFirst();
+                if (task == null) {
+                    task = scheduler.steal(this.index);
+                }
+                if (task == null) {
+                    if (scheduler.shutdown && scheduler.queueDepth.get() == 0) {
+                        return;
+                    }
+                    try {
+                        task = this.queue.pollFirst(IDLE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    if (task == null) {
+                        continue;
+                    }
+                }
+                scheduler.queueDepth.decrementAndGet();
+                scheduler.run(task);
+            }
+        }
+    }
+
+    private static final class LightingTask {
+
+        @Nullable final Chunk chunk;
+        final long key;
+        final Runnable task;
+        @Nullable final Runnable onDropped;
+
+        LightingTask(@Nullable Chunk chunk, long key, Runnable task, @Nullable Runnable onDropped) {
+            this.chunk = chunk;
+            this.key = key;
+            this.task = task;
+            this.onDropped = onDropped;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof LightingTask)) {
+                return false;
+            }
+            final LightingTask other = (LightingTask) obj;
+            return this.chunk != null && this.chunk == other.chunk && this.key == other.key;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(this.chunk) + Long.hashCode(this.key);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.storage.RegionFile;
+import net.minecraft.world.chunk.storage.RegionFileCache;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.ChunkSaveCategory;
+import org.spongepowered.common.interfaces.world.IMixinRegionFile;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.zip.DeflaterOutputStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * Saves chunks in two stages shared by all worlds. Chunk NBT is compressed
+ * on a pool of workers, then handed to the writer thread owning its region
+ * file, so writes to a region file always happen in submission order on a
+ * single thread while different region files are written in parallel.
+ *
+ * <p>Region files are retained through {@link RegionFileReferences} while
+ * they are written, so the {@link RegionFileCache} can't close them
+ * mid-write without the writers holding the cache lock during disk IO.</p>
+ */
+public final class ChunkSavePipeline {
+
+    private static final int WRITE_ATTEMPTS = 5;
+
+    @Nullable private static ChunkSavePipeline instance;
+
+    private final ExecutorService compressionExecutor;
+    private final ExecutorService[] writerExecutors;
+
+    // Metrics
+    private final AtomicLong savedChunks = new AtomicLong();
+    private final AtomicLong totalSaveLatency = new AtomicLong();
+    private final AtomicLong maxSaveLatency = new AtomicLong();
+
+    public static synchronized ChunkSavePipeline getInstance() {
+        if (instance == null) {
+            final ChunkSaveCategory config = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getChunkSaveCategory();
+            instance = new ChunkSavePipeline(config.getCompressionThreads(), config.getWriterThreads());
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the pipeline without creating it.
+     *
+     * @return The pipeline, or null if no chunk was saved through it yet
+     */
+    @Nullable
+    public static synchronized ChunkSavePipeline getInstanceIfPresent() {
+        return instance;
+    }
+
+    private ChunkSavePipeline(int compressionThreads, int writerThreads) {
+        this.compressionExecutor = Executors.newFixedThreadPool(Math.max(1, compressionThreads),
+                new ThreadFactoryBuilder().setNameFormat("Sponge - Chunk Compression Thread - %d").setDaemon(true).build());
+        this.writerExecutors = new ExecutorService[Math.max(1, writerThreads)];
+        for (int i = 0; i < this.writerExecutors.length; i++) {
+            this.writerExecutors[i] = Executors.newSingleThreadExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("Sponge - Chunk Writer Thread - " + i).setDaemon(true).build());
+        }
+    }
+
+    /**
+     * Queues chunk data to be compressed and written to its region file.
+     *
+     * @param saveLocation The directory containing the region folder
+     * @param pos The position of the chunk
+     * @param compound The chunk data
+     * @param shouldWrite Checked on the writer thread before writing, to skip
+     *     data that has been superseded by a newer save
+     * @param onComplete Run on the writer thread once the chunk has been
+     *     written or skipped
+     */
+    public void save(File saveLocation, ChunkPos pos, NBTTagCompound compound, BooleanSupplier shouldWrite, Runnable onComplete) {
+        final long queuedTime = System.nanoTime();
+        final ExecutorService writer = this.writerExecutors[Math.floorMod(31 * (31 * saveLocation.hashCode() + (pos.x >> 5)) + (pos.z >> 5), this.writerExecutors.length)];
+        this.compressionExecutor.execute(() -> {
+            final ByteArrayOutputStream compressed;
+            try {
+                compressed = compress(compound);
+            } catch (Throwable t) {
+                SpongeImpl.getLogger().error("Failed to compress chunk {} in {}", pos, saveLocation, t);
+                onComplete.run();
+                return;
+            }
+
+            writer.execute(() -> {
+                try {
+                    if (shouldWrite.getAsBoolean()) {
+                        this.write(saveLocation, pos, compressed);
+                    }
+                } finally {
+                    this.recordLatency(System.nanoTime() - queuedTime);
+                    onComplete.run();
+                }
+            });
+        });
+    }
+
+    private static ByteArrayOutputStream compress(NBTTagCompound compound) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(8192);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(bytes)))) {
+            CompressedStreamTools.write(compound, out);
+        }
+        return bytes;
+    }
+
+    private void write(File saveLocation, ChunkPos pos, ByteArrayOutputStream compressed) {
+        final byte[] data = compressed.toByteArray();
+        IOException lastException = null;
+        for (int attempt = 0; attempt < WRITE_ATTEMPTS; attempt++) {
+            try {
+                final RegionFile regionFile = RegionFileReferences.retain(saveLocation, pos.x, pos.z);
+                try {
+                    ((IMixinRegionFile) regionFile).writeCompressed(pos.x & 31, pos.z & 31, data, data.length);
+                } finally {
+                    RegionFileReferences.release(regionFile);
+                }
+                return;
+            } catch (IOException e) {
+                lastException = e;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        SpongeImpl.getLogger().error("Failed to save chunk {} in {}", pos, saveLocation, lastException);
+    }
+
+    private void recordLatency(long latency) {
+        this.savedChunks.incrementAndGet();
+        this.totalSaveLatency.addAndGet(latency);
+        long max;
+        while (latency > (max = this.maxSaveLatency.get()) && !this.maxSaveLatency.compareAndSet(max, latency)) {
+            // retry
+        }
+    }
+
+    public long getSavedChunks() {
+        return this.savedChunks.get();
+    }
+
+    /**
+     * Gets the average time from queueing a chunk to it being written, in
+     * nanoseconds.
+     *
+     * @return The average save latency
+     */
+    public long getAverageSaveLatency() {
+        final long saved = this.savedChunks.get();
+        return saved == 0 ? 0 : this.totalSaveLatency.get() / saved;
+    }
+
+    public long getMaxSaveLatency() {
+        return this.maxSaveLatency.get();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * A read-only view of a region file backed by a memory mapping. Unlike
+ * {@link net.minecraft.world.chunk.storage.RegionFile} no lock is held while
+ * reading, so chunks of the same region may be decompressed from several
+ * threads at once.
+ *
+ * <p>The mapping reflects the file as it is on disk, chunks that the server
+ * is writing at the same time may be read in an inconsistent state and are
+ * skipped.</p>
+ */
+public final class MappedRegionFile implements Closeable {
+
+    public static final int CHUNKS_PER_REGION = 1024;
+    private static final int SECTOR_SIZE = 4096;
+    private static final int HEADER_SIZE = SECTOR_SIZE * 2;
+    private static final byte VERSION_GZIP = 1;
+    private static final byte VERSION_DEFLATE = 2;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int[] offsets = new int[CHUNKS_PER_REGION];
+
+    public MappedRegionFile(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            this.buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, this.channel.size());
+        } catch (IOException e) {
+            this.channel.close();
+            throw e;
+        }
+        if (this.buffer.capacity() >= HEADER_SIZE) {
+            final IntBuffer header = ((ByteBuffer) this.buffer.duplicate().position(0)).asIntBuffer();
+            header.get(this.offsets);
+        }
+    }
+
+    public boolean hasChunk(int index) {
+        return this.offsets[index] != 0;
+    }
+
+    /**
+     * Gets the index of the next stored chunk, starting at the given index.
+     *
+     * @param index The index to start at
+     * @return The index of the next chunk, or -1 if there are none left
+     */
+    public int getNextChunk(int index) {
+        while (index < CHUNKS_PER_REGION) {
+            if (this.offsets[index] != 0) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    public int getChunkCount() {
+        int count = 0;
+        for (int offset : this.offsets) {
+            if (offset != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Reads and decompresses the chunk at the given index. This method may be
+     * called concurrently.
+     *
+     * @param index The chunk index, {@code x + z * 32}
+     * @return The chunk data, or null if it is not stored or is corrupted
+     * @throws IOException If the chunk data could not be decompressed
+     */
+    @Nullable
+    public NBTTagCompound readChunk(int index) throws IOException {
+        final int offset = this.offsets[index];
+        if (offset == 0) {
+            return null;
+        }
+        final long start = (long) (offset >>> 8) * SECTOR_SIZE;
+        final int sectors = offset & 0xFF;
+        if (start + 5 > this.buffer.capacity()) {
+            return null;
+        }
+        // Each reader works on its own duplicate, so the shared position is never touched
+        final ByteBuffer data = this.buffer.duplicate();
+        data.position((int) start);
+        final int length = data.getInt();
+        if (length <= 1 || length > sectors * SECTOR_SIZE || start + 4 + length > this.buffer.capacity()) {
+            return null;
+        }
+        final byte version = data.get();
+        final byte[] compressed = new byte[length - 1];
+        data.get(compressed);
+
+        final InputStream raw = new ByteArrayInputStream(compressed);
+        final InputStream in;
+        if (version == VERSION_GZIP) {
+            in = new GZIPInputStream(raw);
+        } else if (version == VERSION_DEFLATE) {
+            in = new InflaterInputStream(raw);
+        } else {
+            return null;
+        }
+        try (DataInputStream stream = new DataInputStream(new BufferedInputStream(in))) {
+            return CompressedStreamTools.read(stream);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+}
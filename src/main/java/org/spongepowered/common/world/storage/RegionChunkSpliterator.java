@@ -0,0 +1,147 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.nbt.NBTTagCompound;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.common.SpongeImpl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link Spliterator} over the chunks stored in a set of region files.
+ * Splitting hands out whole region files, so a parallel stream maps and
+ * decompresses each region on its own worker.
+ *
+ * <p>Chunks that can not be read are logged and skipped, rather than failing
+ * the whole traversal.</p>
+ */
+public final class RegionChunkSpliterator implements Spliterator<DataContainer> {
+
+    private final Path[] regionFiles;
+    private int fileIndex;
+    private final int fileEnd;
+    @Nullable private MappedRegionFile region;
+    @Nullable private Path regionPath;
+    private int chunkIndex;
+
+    public RegionChunkSpliterator(Path[] regionFiles) {
+        this(regionFiles, 0, regionFiles.length);
+    }
+
+    private RegionChunkSpliterator(Path[] regionFiles, int fileIndex, int fileEnd) {
+        this.regionFiles = regionFiles;
+        this.fileIndex = fileIndex;
+        this.fileEnd = fileEnd;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super DataContainer> action) {
+        while (true) {
+            if (this.region == null && !this.openNextRegion()) {
+                return false;
+            }
+            final int index = this.region.getNextChunk(this.chunkIndex);
+            if (index == -1) {
+                this.closeRegion();
+                continue;
+            }
+            this.chunkIndex = index + 1;
+            final DataContainer data = this.readChunk(index);
+            if (data != null) {
+                action.accept(data);
+                return true;
+            }
+        }
+    }
+
+    @Nullable
+    private DataContainer readChunk(int index) {
+        try {
+            final NBTTagCompound compound = this.region.readChunk(index);
+            return compound == null ? null : WorldStorageUtil.readChunkData(compound);
+        } catch (IOException e) {
+            SpongeImpl.getLogger().warn("Skipping unreadable chunk {}, {} in {}", index & 31, index >>> 5, this.regionPath, e);
+            return null;
+        }
+    }
+
+    private boolean openNextRegion() {
+        while (this.fileIndex < this.fileEnd) {
+            final Path file = this.regionFiles[this.fileIndex++];
+            try {
+                this.region = new MappedRegionFile(file);
+                this.regionPath = file;
+                this.chunkIndex = 0;
+                return true;
+            } catch (IOException e) {
+                SpongeImpl.getLogger().warn("Skipping unreadable region file {}", file, e);
+            }
+        }
+        return false;
+    }
+
+    private void closeRegion() {
+        try {
+            this.region.close();
+        } catch (IOException ignored) {
+        }
+        this.region = null;
+    }
+
+    @Nullable
+    @Override
+    public Spliterator<DataContainer> trySplit() {
+        final int remaining = this.fileEnd - this.fileIndex;
+        if (remaining < 2) {
+            return null;
+        }
+        final int mid = this.fileIndex + remaining / 2;
+        final RegionChunkSpliterator prefix = new RegionChunkSpliterator(this.regionFiles, this.fileIndex, mid);
+        this.fileIndex = mid;
+        // Hand the region currently being read over with the prefix to keep the order
+        prefix.region = this.region;
+        prefix.regionPath = this.regionPath;
+        prefix.chunkIndex = this.chunkIndex;
+        this.region = null;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return (long) (this.fileEnd - this.fileIndex + (this.region == null ? 0 : 1)) * MappedRegionFile.CHUNKS_PER_REGION;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+    }
+
+}
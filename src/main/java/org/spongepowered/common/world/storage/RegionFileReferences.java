@@ -0,0 +1,118 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.world.chunk.storage.RegionFile;
+import net.minecraft.world.chunk.storage.RegionFileCache;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.IMixinRegionFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Keeps region files open while they are used outside of the
+ * {@link RegionFileCache} lock.
+ *
+ * <p>A retained region file that is evicted by
+ * {@link RegionFileCache#clearRegionFileReferences} is retired instead of
+ * closed. It is closed once the last reference is released, or handed out
+ * again if the cache loads the same file before that, so there is never
+ * more than one open instance per file. All state is guarded by the
+ * {@link RegionFileCache} monitor, which is only held for the bookkeeping
+ * and never for the reads or writes themselves.</p>
+ */
+public final class RegionFileReferences {
+
+    private static final Map<File, RegionFile> retiredRegionFiles = new HashMap<>();
+
+    /**
+     * Gets the region file containing a chunk from the cache and retains it
+     * until {@link #release} is called.
+     *
+     * @param worldDir The directory containing the region folder
+     * @param chunkX The chunk x position
+     * @param chunkZ The chunk z position
+     * @return The retained region file
+     */
+    public static RegionFile retain(File worldDir, int chunkX, int chunkZ) {
+        synchronized (RegionFileCache.class) {
+            final RegionFile regionFile = RegionFileCache.createOrLoadRegionFile(worldDir, chunkX, chunkZ);
+            ((IMixinRegionFile) regionFile).retain();
+            return regionFile;
+        }
+    }
+
+    public static void release(RegionFile regionFile) {
+        synchronized (RegionFileCache.class) {
+            final IMixinRegionFile mixinRegionFile = (IMixinRegionFile) regionFile;
+            if (mixinRegionFile.release() == 0 && retiredRegionFiles.remove(mixinRegionFile.getFile(), regionFile)) {
+                close(regionFile);
+            }
+        }
+    }
+
+    /**
+     * Called by the cache for each region file it evicts.
+     *
+     * @param regionFile The evicted region file
+     * @return False if the region file is retained and was retired instead
+     *     of being closed by the cache
+     */
+    public static boolean retireOrClose(RegionFile regionFile) {
+        final IMixinRegionFile mixinRegionFile = (IMixinRegionFile) regionFile;
+        if (mixinRegionFile.isRetained()) {
+            retiredRegionFiles.put(mixinRegionFile.getFile(), regionFile);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Called by the cache before it opens a region file.
+     *
+     * @param file The region file
+     * @return The retired, still open instance of the file, if any
+     */
+    @Nullable
+    public static RegionFile reclaim(File file) {
+        return retiredRegionFiles.remove(file);
+    }
+
+    private static void close(RegionFile regionFile) {
+        try {
+            regionFile.close();
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Failed to close region file {}", ((IMixinRegionFile) regionFile).getFile(), e);
+        }
+    }
+
+    private RegionFileReferences() {
+    }
+}
@@ -24,44 +24,53 @@
  */
 package org.spongepowered.common.world.storage;
 
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
-import net.minecraft.world.chunk.storage.RegionFile;
+import net.minecraft.nbt.NBTTagCompound;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.world.storage.ChunkDataStream;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class SpongeChunkDataStream implements ChunkDataStream {
 
     private static class RegionFileItr {
 
-        private final RegionFile file;
+        private final MappedRegionFile file;
         public int index;
 
-        public RegionFileItr(RegionFile regionFile) {
+        public RegionFileItr(MappedRegionFile regionFile) {
             this.file = regionFile;
         }
 
         public int getNext() {
-            int index = this.index;
-            int[] offsets = this.file.offsets;
-            while (index != -1 && index < offsets.length && offsets[index] == 0) {
-                index++;
-            }
-            if (index >= offsets.length) {
-                return -1;
+            return this.index == -1 ? -1 : this.file.getNextChunk(this.index);
+        }
+
+        public int countRemaining() {
+            int count = 0;
+            for (int index = getNext(); index != -1; index = this.file.getNextChunk(index + 1)) {
+                count++;
             }
-            return index;
+            return count;
+        }
+
+        public DataContainer readAt(int index) throws IOException {
+            NBTTagCompound data = this.file.readChunk(index);
+            return data == null ? null : WorldStorageUtil.readChunkData(data);
         }
 
-        public DataInputStream getStreamAt(int index) {
-            int x = index & 31;
-            int z = index >>> 5;
-            return this.file.getChunkDataInputStream(x, z);
+        public void close() {
+            try {
+                this.file.close();
+            } catch (IOException ignored) {
+            }
         }
 
     }
@@ -81,8 +90,12 @@ private boolean itrAvailable() {
         Iterable<Path> files = WorldStorageUtil.listRegionFiles(this.worldDir);
         for (Path file : files) {
             if (!this.openedFiles.contains(file)) {
-                this.regionFileItr = new RegionFileItr(WorldStorageUtil.getRegionFile(file));
                 this.openedFiles.add(file);
+                try {
+                    this.regionFileItr = new RegionFileItr(new MappedRegionFile(file));
+                } catch (IOException e) {
+                    continue;
+                }
                 return true;
             }
         }
@@ -93,6 +106,7 @@ private int getNextIndex() {
         int next;
         while (itrAvailable()) {
             if ((next = this.regionFileItr.getNext()) == -1) {
+                this.regionFileItr.close();
                 this.regionFileItr = null;
             } else {
                 return next;
@@ -108,9 +122,8 @@ public DataContainer next() {
             throw new NoSuchElementException();
         }
         this.regionFileItr.index = next + 1;
-        DataInputStream stream = this.regionFileItr.getStreamAt(next);
         try {
-            return WorldStorageUtil.readDataFromRegion(stream);
+            return this.regionFileItr.readAt(next);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -123,27 +136,49 @@ public boolean hasNext() {
 
     @Override
     public int available() {
-        // Advance to the end of the stream, counting along the way. Store
-        // previous state and reset to it afterwards.
-        RegionFileItr currentItr = this.regionFileItr;
-        Set<Path> currentOpenedFiles = Sets.newHashSet(this.openedFiles);
-        int count = 0;
-        int index = getNextIndex();
-        while (index != -1) {
-            count++;
-            this.regionFileItr.index = index + 1;
-            index = getNextIndex();
+        // Only the region headers are needed to count the remaining chunks,
+        // so this does not change the state of the stream.
+        int count = this.regionFileItr == null ? 0 : this.regionFileItr.countRemaining();
+        for (Path file : WorldStorageUtil.listRegionFiles(this.worldDir)) {
+            if (this.openedFiles.contains(file)) {
+                continue;
+            }
+            try (MappedRegionFile region = new MappedRegionFile(file)) {
+                count += region.getChunkCount();
+            } catch (IOException ignored) {
+            }
         }
-        this.regionFileItr = currentItr;
-        this.openedFiles.clear();
-        this.openedFiles.addAll(currentOpenedFiles);
         return count;
     }
 
     @Override
     public void reset() {
+        if (this.regionFileItr != null) {
+            this.regionFileItr.close();
+        }
         this.regionFileItr = null;
         this.openedFiles.clear();
     }
 
+    /**
+     * Creates a spliterator over all chunks of the world, independent of the
+     * position of this stream. Each region file is memory mapped and split off
+     * as a whole, which makes the result suited for parallel scans.
+     *
+     * @return The spliterator
+     */
+    public Spliterator<DataContainer> spliterator() {
+        return new RegionChunkSpliterator(Iterables.toArray(WorldStorageUtil.listRegionFiles(this.worldDir), Path.class));
+    }
+
+    /**
+     * Creates a stream over all chunks of the world, see {@link #spliterator()}.
+     *
+     * @param parallel Whether the chunks are read and decompressed in parallel
+     * @return The stream
+     */
+    public Stream<DataContainer> stream(boolean parallel) {
+        return StreamSupport.stream(this.spliterator(), parallel);
+    }
+
 }
@@ -0,0 +1,78 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.server.MinecraftServer;
+import org.spongepowered.common.SpongeImpl;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.annotation.Nullable;
+
+/**
+ * Executors used to load chunks asynchronously. Region file reads and NBT
+ * decoding happen on the IO executor, while building the chunk and
+ * attaching its entities and tileentities happens on the main thread.
+ */
+public final class SpongeChunkIOExecutor {
+
+    @Nullable private static ExecutorService ioExecutor;
+    private static final Executor MAIN_THREAD_EXECUTOR = SpongeChunkIOExecutor::executeOnMainThread;
+
+    public static synchronized Executor getIOExecutor() {
+        if (ioExecutor == null) {
+            final int threads = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getChunkPrefetchCategory().getIoThreads();
+            ioExecutor = Executors.newFixedThreadPool(Math.max(1, threads),
+                    new ThreadFactoryBuilder().setNameFormat("Sponge - Chunk IO Thread - %d").setDaemon(true).build());
+        }
+        return ioExecutor;
+    }
+
+    public static Executor getMainThreadExecutor() {
+        return MAIN_THREAD_EXECUTOR;
+    }
+
+    private static void executeOnMainThread(Runnable task) {
+        final MinecraftServer server = SpongeImpl.getServer();
+        // Once stopped, the server would run scheduled tasks right away on
+        // the calling IO thread, so completions are rejected instead
+        if (!server.isServerRunning() || server.isServerStopped()) {
+            throw new RejectedExecutionException("The server is stopping");
+        }
+        server.addScheduledTask(() -> {
+            // The server may have stopped between the check and scheduling the task
+            if (server.isCallingFromMinecraftThread()) {
+                task.run();
+            }
+        });
+    }
+
+    private SpongeChunkIOExecutor() {
+    }
+}
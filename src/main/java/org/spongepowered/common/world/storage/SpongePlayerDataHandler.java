@@ -27,17 +27,19 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
-import net.minecraft.nbt.CompressedStreamTools;
-import net.minecraft.nbt.NBTTagCompound;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.persistence.NbtTranslator;
 import org.spongepowered.common.world.WorldManager;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.DirectoryIteratorException;
 import java.nio.file.DirectoryStream;
@@ -52,6 +54,8 @@
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import javax.annotation.Nullable;
 
@@ -86,18 +90,14 @@ public static void init() {
             }
             for (Path playerFile : playerFiles) {
                 if (Files.isReadable(playerFile)) {
-                    NBTTagCompound compound;
+                    final DataContainer container;
 
-                    try (final InputStream stream = Files.newInputStream(playerFile)) {
-                        compound = CompressedStreamTools.readCompressed(stream);
+                    // Read straight in to the container, no intermediate compound is needed
+                    try (final DataInputStream stream = new DataInputStream(new BufferedInputStream(new GZIPInputStream(
+                            Files.newInputStream(playerFile))))) {
+                        container = NbtTranslator.getInstance().read(stream);
                     }
 
-                    // TODO Hard exception? Logger entry?
-                    if (compound == null) {
-                        throw new RuntimeException("Failed to decompress player data within [" + playerFile + "]!");
-                    }
-
-                    DataContainer container = NbtTranslator.getInstance().translateFrom(compound);
                     SpongePlayerData data = container.getSerializable(DataQuery.of(), SpongePlayerData.class).get();
                     handlerInstance.playerDataMap.put(data.uuid, data);
                 }
@@ -118,17 +118,13 @@ public static void savePlayer(UUID id) {
         SpongePlayerDataHandler instance = Holder.INSTANCE;
         @Nullable SpongePlayerData data = instance.playerDataMap.get(checkNotNull(id, "Player id cannot be null!"));
         if (data != null) {
-            saveFile(id.toString(), createCompoundFor(data));
+            saveFile(id.toString(), data.toContainer());
         } else {
             SpongeImpl.getLogger().error("Couldn't find a player data for the uuid: " + id.toString());
         }
     }
 
-    private static NBTTagCompound createCompoundFor(SpongePlayerData data) {
-        return NbtTranslator.getInstance().translateData(data.toContainer());
-    }
-
-    private static void saveFile(String id, NBTTagCompound compound) {
+    private static void saveFile(String id, DataView data) {
         checkState(Holder.INSTANCE.hasInitialized, "PlayerDataHandler hasn't initialized yet!");
         SpongePlayerDataHandler instance = Holder.INSTANCE;
         try {
@@ -142,7 +138,9 @@ private static void saveFile(String id, NBTTagCompound compound) {
             final Path finalDatPath = instance.playerDir.resolve(id + ".dat");
 
             try (OutputStream stream = Files.newOutputStream(newDatPath)) {
-                CompressedStreamTools.writeCompressed(compound, stream);
+                try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(stream)))) {
+                    NbtTranslator.getInstance().write(data, output);
+                }
 
                 try {
                     Files.deleteIfExists(finalDatPath);
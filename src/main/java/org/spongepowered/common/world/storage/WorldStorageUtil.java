@@ -77,8 +77,10 @@ public static DataContainer readDataFromRegion(DataInputStream stream) throws IO
         if (stream == null) {
             return null;
         }
-        NBTTagCompound data = CompressedStreamTools.read(stream);
+        return readChunkData(CompressedStreamTools.read(stream));
+    }
 
+    public static DataContainer readChunkData(NBTTagCompound data) {
         // Checks are based on AnvilChunkLoader#checkedReadChunkFromNBT
 
         if (!data.hasKey(NbtDataUtil.CHUNK_DATA_LEVEL, NbtDataUtil.TAG_COMPOUND)) {
@@ -103,16 +105,21 @@ public static Iterable<Path> listRegionFiles(Path worldDir) {
     // file name instead of x,z
     public static RegionFile getRegionFile(Path regionFilePath) {
         File file = regionFilePath.toFile();
-        RegionFile regionFile = RegionFileCache.REGIONS_BY_FILE.get(file);
-        if (regionFile != null) {
+        synchronized (RegionFileCache.class) {
+            RegionFile regionFile = RegionFileCache.REGIONS_BY_FILE.get(file);
+            if (regionFile != null) {
+                return regionFile;
+            }
+            if (RegionFileCache.REGIONS_BY_FILE.size() >= 256) {
+                RegionFileCache.clearRegionFileReferences();
+            }
+            regionFile = RegionFileReferences.reclaim(file);
+            if (regionFile == null) {
+                regionFile = new RegionFile(file);
+            }
+            RegionFileCache.REGIONS_BY_FILE.put(file, regionFile);
             return regionFile;
         }
-        if (RegionFileCache.REGIONS_BY_FILE.size() >= 256) {
-            RegionFileCache.clearRegionFileReferences();
-        }
-        regionFile = new RegionFile(file);
-        RegionFileCache.REGIONS_BY_FILE.put(file, regionFile);
-        return regionFile;
     }
 
 }
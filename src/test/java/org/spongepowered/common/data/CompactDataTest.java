@@ -0,0 +1,110 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.common.data.persistence.NbtTranslator;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+@RunWith(LaunchWrapperTestRunner.class)
+public class CompactDataTest {
+
+    private static void fill(DataContainer container) {
+        container.set(of("foo", "bar", "baz"), 1);
+        container.set(of("foo", "list"), ImmutableList.of("a", "b"));
+        container.set(of("qux"), "test");
+    }
+
+    @Test
+    public void testEqualToMemoryContainer() {
+        final DataContainer compact = new CompactDataContainer();
+        final DataContainer memory = new MemoryDataContainer();
+        fill(compact);
+        fill(memory);
+        assertEquals(memory, compact);
+        assertEquals(compact, memory);
+        assertEquals(memory.hashCode(), compact.hashCode());
+        assertEquals(memory.getValues(true), compact.getValues(true));
+    }
+
+    @Test
+    public void testCopyIsCompact() {
+        final DataContainer container = new CompactDataContainer();
+        fill(container);
+        final DataContainer copy = container.copy();
+        assertTrue(copy instanceof CompactDataContainer);
+        assertEquals(container, copy);
+        assertTrue(((MemoryDataView) copy.getView(of("foo")).get()).map instanceof CompactDataMap);
+    }
+
+    @Test
+    public void testManyKeys() {
+        final DataContainer container = new CompactDataContainer();
+        for (int i = 0; i < 100; i++) {
+            container.set(DataQuery.of("key" + i), i);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            container.remove(DataQuery.of("key" + i));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 != 0, container.contains(DataQuery.of("key" + i)));
+        }
+        assertEquals(Integer.valueOf(99), container.getInt(DataQuery.of("key99")).get());
+        assertEquals(50, container.getKeys(false).size());
+    }
+
+    @Test
+    public void testNbtRoundTrip() {
+        final NBTTagCompound compound = new NBTTagCompound();
+        final NBTTagCompound display = new NBTTagCompound();
+        final NBTTagList lore = new NBTTagList();
+        lore.appendTag(new NBTTagString("line"));
+        display.setTag("Lore", lore);
+        display.setString("Name", "Stick");
+        compound.setTag("display", display);
+        compound.setInteger("Damage", 3);
+
+        final DataContainer container = NbtTranslator.getInstance().translateFrom(compound);
+        assertTrue(container instanceof CompactDataContainer);
+        final DataView view = container.getView(of("display")).get();
+        assertEquals("Stick", view.getString(of("Name")).get());
+        assertFalse(container.contains(of("missing")));
+        assertEquals(compound, NbtTranslator.getInstance().translateData(container));
+    }
+
+}
@@ -166,6 +166,20 @@ public void testIncludeExcludeListener_InvalidListener() throws Exception {
         this.getListener(new InvalidIncludeExcludeListener(), "invalidListener", TestEvent.class);
     }
 
+    @Test
+    public void testMultipleCauseParametersListener() throws Exception {
+        FirstLastCauseListener listener = new FirstLastCauseListener();
+        AnnotatedEventListener multipleListener = this.getListener(listener, "multipleCausesListener", SubEvent.class, String.class,
+                Integer.class, Entity.class);
+
+        multipleListener.handle(new SubEvent(Cause.of(EventContext.empty(), "Foo", 1, mock(Entity.class), 2)));
+        Assert.assertNull("Listener was called without a matching filtered @First parameter!", listener.multipleCausesFirst);
+
+        multipleListener.handle(new SubEvent(Cause.of(EventContext.empty(), "Foo", 1, mock(Player.class), "Bar", 2)));
+        Assert.assertEquals("Listener received the wrong @First parameter!", "Foo", listener.multipleCausesFirst);
+        Assert.assertEquals("Listener received the wrong @Last parameter!", Integer.valueOf(2), listener.multipleCausesLast);
+    }
+
     @Test
     public void testFirstLastCauseListener() throws Exception {
         FirstLastCauseListener listener = new FirstLastCauseListener();
@@ -29,6 +29,7 @@
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
 import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.cause.EventContextKeys;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
@@ -90,4 +91,29 @@ public void testPoppingFrameRemovesFrameContexts() throws Exception {
         Assert.assertFalse(causeStackManager.getContext(EventContextKeys.OWNER).isPresent());
     }
 
+    @Test
+    public void testListenerFrameKeepsOuterCause() throws Exception {
+        final SpongeCauseStackManager causeStackManager = SpongeImpl.getCauseStackManager();
+
+        SpongeCauseStackManager.StackFrame frame1 = causeStackManager.pushCauseFrame();
+        causeStackManager.pushCause(1);
+        final Cause outer = causeStackManager.getCurrentCause();
+
+        // A listener that only reads the cause
+        SpongeCauseStackManager.StackFrame listenerFrame = causeStackManager.pushListenerFrame("plugin");
+        Assert.assertEquals("plugin", causeStackManager.getCurrentCause().root());
+        causeStackManager.popListenerFrame(listenerFrame);
+        Assert.assertSame(outer, causeStackManager.getCurrentCause());
+
+        // A listener that changes the context
+        listenerFrame = causeStackManager.pushListenerFrame("plugin");
+        causeStackManager.addContext(EventContextKeys.OWNER, Mockito.mock(User.class));
+        causeStackManager.popListenerFrame(listenerFrame);
+        Assert.assertNotSame(outer, causeStackManager.getCurrentCause());
+        Assert.assertEquals(1, causeStackManager.getCurrentCause().root());
+        Assert.assertFalse(causeStackManager.getContext(EventContextKeys.OWNER).isPresent());
+
+        causeStackManager.popCauseFrame(frame1);
+    }
+
 }
@@ -28,6 +28,7 @@
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventManager;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.entity.SpawnEntityEvent;
@@ -109,6 +110,58 @@ public void testMultipleListeners() {
         Assert.assertFalse("SPAWN_ENTITY_EVENT_CUSTOM is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
     }
 
+    @Test
+    public void testListenerFlags() {
+        final int baseId = EventListenerFlags.getId(TestEvent.class);
+        final int subId = EventListenerFlags.getId(TestEvent.Sub.class);
+        final int otherId = EventListenerFlags.getId(TestEvent.Other.class);
+        SubTestListener listener = new SubTestListener();
+
+        Assert.assertFalse(EventListenerFlags.hasListeners(baseId));
+        Assert.assertFalse(EventListenerFlags.hasListeners(subId));
+
+        this.eventManager.registerListeners(this.plugin, listener);
+        // Listeners for a subtype may receive a supertype event
+        Assert.assertTrue(EventListenerFlags.hasListeners(baseId));
+        Assert.assertTrue(EventListenerFlags.hasListeners(subId));
+        Assert.assertFalse(EventListenerFlags.hasListeners(otherId));
+
+        this.eventManager.unregisterListeners(listener);
+        Assert.assertFalse(EventListenerFlags.hasListeners(baseId));
+        Assert.assertFalse(EventListenerFlags.hasListeners(subId));
+
+        // Listeners for a supertype receive all subtype events
+        BaseTestListener baseListener = new BaseTestListener();
+        this.eventManager.registerListeners(this.plugin, baseListener);
+        Assert.assertTrue(EventListenerFlags.hasListeners(otherId));
+        Assert.assertTrue(EventListenerFlags.hasListeners(EventListenerFlags.getId(TestEvent.Other.Nested.class)));
+
+        this.eventManager.unregisterListeners(baseListener);
+        Assert.assertFalse(EventListenerFlags.hasListeners(otherId));
+    }
+
+    public interface TestEvent extends Event {
+
+        interface Sub extends TestEvent {}
+
+        interface Other extends TestEvent {
+
+            interface Nested extends Other {}
+        }
+    }
+
+    public static class SubTestListener {
+
+        @Listener
+        public void onSub(TestEvent.Sub event) {}
+    }
+
+    public static class BaseTestListener {
+
+        @Listener
+        public void onBase(TestEvent event) {}
+    }
+
     private static class SpawnListener {
 
         @Listener
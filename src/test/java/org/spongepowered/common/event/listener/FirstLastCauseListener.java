@@ -41,6 +41,9 @@ public class FirstLastCauseListener {
     public boolean lastCauseCalledInc;
     public boolean lastCauseCalledEx;
 
+    public String multipleCausesFirst;
+    public Integer multipleCausesLast;
+
     @Listener
     public void firstCauseListener(EventFilterTest.SubEvent event, @First Player player) {
         this.firstCauseCalled = true;
@@ -71,4 +74,11 @@ public void lastCauseListenerExclude(EventFilterTest.SubEvent event, @Last(typeF
         this.lastCauseCalledEx = true;
     }
 
+    @Listener
+    public void multipleCausesListener(EventFilterTest.SubEvent event, @First String first, @Last Integer last,
+            @First(typeFilter = Player.class) Entity entity) {
+        this.multipleCausesFirst = first;
+        this.multipleCausesLast = last;
+    }
+
 }
@@ -0,0 +1,124 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import net.minecraft.util.math.ChunkPos;
+import org.junit.Test;
+import org.spongepowered.common.interfaces.IMixinCachable;
+
+import java.util.Iterator;
+
+public class CachedLong2ObjectMapTest {
+
+    private static final class Entry implements IMixinCachable {
+
+        private final long key;
+
+        Entry(int x, int z) {
+            this.key = ChunkPos.asLong(x, z);
+        }
+
+        @Override
+        public long getCacheKey() {
+            return this.key;
+        }
+    }
+
+    private static CachedLong2ObjectMap<Entry> createMap(int radius) {
+        final CachedLong2ObjectMap<Entry> map = new CachedLong2ObjectMap<>();
+        for (int x = -radius; x <= radius; x++) {
+            for (int z = -radius; z <= radius; z++) {
+                map.put(ChunkPos.asLong(x, z), new Entry(x, z));
+            }
+        }
+        return map;
+    }
+
+    @Test
+    public void testAlternatingNeighboursHit() {
+        final CachedLong2ObjectMap<Entry> map = createMap(4);
+        // A block update on a chunk border alternates between both chunks
+        for (int i = 0; i < 100; i++) {
+            map.get(ChunkPos.asLong(0, 0));
+            map.get(ChunkPos.asLong(1, 0));
+            map.get(ChunkPos.asLong(0, 1));
+        }
+        assertEquals(3, map.getCacheMisses());
+        assertEquals(297, map.getCacheHits());
+    }
+
+    @Test
+    public void testRemoveInvalidatesCache() {
+        final CachedLong2ObjectMap<Entry> map = createMap(1);
+        final long key = ChunkPos.asLong(1, 1);
+        map.get(key);
+        map.remove(key);
+        assertNull(map.get(key));
+        assertNull(map.getConcurrently(key));
+    }
+
+    @Test
+    public void testPutReplacesCachedValue() {
+        final CachedLong2ObjectMap<Entry> map = createMap(1);
+        final long key = ChunkPos.asLong(-1, 0);
+        map.get(key);
+        final Entry replacement = new Entry(-1, 0);
+        map.put(key, replacement);
+        assertSame(replacement, map.get(key));
+        assertSame(replacement, map.getConcurrently(key));
+    }
+
+    @Test
+    public void testInheritedMutatorsInvalidateCache() {
+        final CachedLong2ObjectMap<Entry> map = createMap(1);
+        final long boxedKey = ChunkPos.asLong(0, 1);
+        map.get(boxedKey);
+        map.remove(Long.valueOf(boxedKey));
+        assertNull(map.get(boxedKey));
+
+        final long computedKey = ChunkPos.asLong(1, 0);
+        map.get(computedKey);
+        map.computeIfPresent(computedKey, (key, value) -> null);
+        assertNull(map.get(computedKey));
+        assertNull(map.getConcurrently(computedKey));
+
+        final long iteratedKey = ChunkPos.asLong(-1, -1);
+        map.get(iteratedKey);
+        for (Iterator<Entry> iterator = map.values().iterator(); iterator.hasNext(); ) {
+            if (iterator.next().getCacheKey() == iteratedKey) {
+                iterator.remove();
+            }
+        }
+        assertNull(map.get(iteratedKey));
+        assertFalse(map.keySet().contains(iteratedKey));
+        assertEquals(6, map.size());
+    }
+
+}
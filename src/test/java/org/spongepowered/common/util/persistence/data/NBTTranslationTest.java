@@ -27,6 +27,8 @@
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableList;
+import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -39,6 +41,11 @@
 import org.spongepowered.common.data.persistence.NbtTranslator;
 import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.Optional;
 
 @RunWith(LaunchWrapperTestRunner.class)
@@ -66,4 +73,28 @@ public void testDotContainerKeys() {
         assertEquals(container, translatedContainer);
     }
 
+    @Test
+    public void testStreamingRoundTrip() throws IOException {
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        container.set(DataQuery.of("foo"), "bar");
+        container.set(DataQuery.of("flag"), true);
+        container.set(DataQuery.of("nested", "value"), 5.0D);
+        container.set(DataQuery.of("list"), ImmutableList.of(
+                DataContainer.createNew().set(DataQuery.of("a"), 1), DataContainer.createNew().set(DataQuery.of("b"), 2L)));
+        container.set(DataQuery.of("strings"), ImmutableList.of("x", "y"));
+        // Mixed lists keep only the elements matching the type of the first one
+        container.set(DataQuery.of("mixedNumbers"), ImmutableList.of(1, 2L, 3));
+        container.set(DataQuery.of("mixedTypes"), ImmutableList.of(1, "a"));
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        NbtTranslator.getInstance().write(container, new DataOutputStream(bytes));
+
+        // The streamed output is valid NBT, identical to the translated compound
+        final NBTTagCompound compound = CompressedStreamTools.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(NbtTranslator.getInstance().translateData(container), compound);
+
+        final DataContainer read = NbtTranslator.getInstance().read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(NbtTranslator.getInstance().translateFrom(compound), read);
+    }
+
 }
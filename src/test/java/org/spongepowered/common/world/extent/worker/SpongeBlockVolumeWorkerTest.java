@@ -0,0 +1,134 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent.worker;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeFiller;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMapper;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMerger;
+import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+@RunWith(LaunchWrapperTestRunner.class)
+public class SpongeBlockVolumeWorkerTest {
+
+    // Large enough for a local palette and more z slabs than worker threads
+    private static final Vector3i MIN = new Vector3i(-3, 0, 5);
+    private static final Vector3i SIZE = new Vector3i(7, 5, 19);
+
+    private static BlockState[] states() {
+        return new BlockState[] {BlockTypes.AIR.getDefaultState(), BlockTypes.STONE.getDefaultState(),
+                BlockTypes.DIRT.getDefaultState(), BlockTypes.GRASS.getDefaultState()};
+    }
+
+    private static ArrayMutableBlockBuffer createBuffer(int seed) {
+        final BlockState[] states = states();
+        final ArrayMutableBlockBuffer buffer = new ArrayMutableBlockBuffer(MIN, SIZE);
+        buffer.getBlockWorker().fill((x, y, z) -> states[Math.floorMod(x * 31 + y * 17 + z * 7 + seed, states.length)]);
+        return buffer;
+    }
+
+    private static void assertSameBlocks(BlockVolume expected, BlockVolume actual) {
+        final Vector3i max = expected.getBlockMax();
+        for (int z = MIN.getZ(); z <= max.getZ(); z++) {
+            for (int y = MIN.getY(); y <= max.getY(); y++) {
+                for (int x = MIN.getX(); x <= max.getX(); x++) {
+                    Assert.assertEquals(expected.getBlock(x, y, z), actual.getBlock(x, y, z));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testReduce() {
+        final ArrayMutableBlockBuffer buffer = createBuffer(0);
+        final BlockState stone = BlockTypes.STONE.getDefaultState();
+
+        final SpongeMutableBlockVolumeWorker<ArrayMutableBlockBuffer> serial = new SpongeMutableBlockVolumeWorker<>(buffer, false);
+        final SpongeMutableBlockVolumeWorker<ArrayMutableBlockBuffer> parallel = serial.parallel();
+        Assert.assertEquals(serial.reduce((volume, x, y, z, count) -> volume.getBlock(x, y, z) == stone ? count + 1 : count, Integer::sum, 0),
+                parallel.reduce((volume, x, y, z, count) -> volume.getBlock(x, y, z) == stone ? count + 1 : count, Integer::sum, 0));
+        // Concatenation isn't commutative, so this also checks the merge order of the slabs
+        Assert.assertEquals(serial.reduce((volume, x, y, z, path) -> path + volume.getBlock(x, y, z).getType().getId(), String::concat, ""),
+                parallel.reduce((volume, x, y, z, path) -> path + volume.getBlock(x, y, z).getType().getId(), String::concat, ""));
+    }
+
+    @Test
+    public void testMap() {
+        final ArrayMutableBlockBuffer buffer = createBuffer(0);
+        final BlockState[] states = states();
+        final BlockVolumeMapper mapper = (volume, x, y, z) -> {
+            final BlockState block = volume.getBlock(x, y, z);
+            for (int i = 0; i < states.length; i++) {
+                if (states[i] == block) {
+                    return states[(i + x + z) & 3];
+                }
+            }
+            return block;
+        };
+
+        final ArrayMutableBlockBuffer serialDestination = new ArrayMutableBlockBuffer(MIN, SIZE);
+        final ArrayMutableBlockBuffer parallelDestination = new ArrayMutableBlockBuffer(MIN, SIZE);
+        new SpongeMutableBlockVolumeWorker<>(buffer, false).map(mapper, serialDestination);
+        new SpongeMutableBlockVolumeWorker<>(buffer, true).map(mapper, parallelDestination);
+        assertSameBlocks(serialDestination, parallelDestination);
+    }
+
+    @Test
+    public void testMerge() {
+        final ArrayMutableBlockBuffer first = createBuffer(0);
+        final ArrayMutableBlockBuffer second = createBuffer(1);
+        final BlockState air = BlockTypes.AIR.getDefaultState();
+        final BlockVolumeMerger merger = (firstVolume, xFirst, yFirst, zFirst, secondVolume, xSecond, ySecond, zSecond) -> {
+            final BlockState block = firstVolume.getBlock(xFirst, yFirst, zFirst);
+            return block == air ? secondVolume.getBlock(xSecond, ySecond, zSecond) : block;
+        };
+
+        final ArrayMutableBlockBuffer serialDestination = new ArrayMutableBlockBuffer(MIN, SIZE);
+        final ArrayMutableBlockBuffer parallelDestination = new ArrayMutableBlockBuffer(MIN, SIZE);
+        new SpongeMutableBlockVolumeWorker<>(first, false).merge(second, merger, serialDestination);
+        new SpongeMutableBlockVolumeWorker<>(first, true).merge(second, merger, parallelDestination);
+        assertSameBlocks(serialDestination, parallelDestination);
+    }
+
+    @Test
+    public void testFill() {
+        final BlockState[] states = states();
+        final BlockVolumeFiller filler = (x, y, z) -> states[Math.floorMod(x ^ (y * 3) ^ (z * 5), states.length)];
+
+        final ArrayMutableBlockBuffer serialBuffer = new ArrayMutableBlockBuffer(MIN, SIZE);
+        final ArrayMutableBlockBuffer parallelBuffer = new ArrayMutableBlockBuffer(MIN, SIZE);
+        new SpongeMutableBlockVolumeWorker<>(serialBuffer, false).fill(filler);
+        new SpongeMutableBlockVolumeWorker<>(parallelBuffer, true).fill(filler);
+        assertSameBlocks(serialBuffer, parallelBuffer);
+    }
+
+}